@@ -0,0 +1,63 @@
+package tictactoe.engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tictactoe.model.MutableBoard;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EvaluationBenchmark {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    private MutableBoard board;
+    private int emptyCell;
+
+    //a third of the cells are filled at random, the same for every run
+    @Setup
+    public void setup() {
+        final Random random = new Random(size);
+        board = new MutableBoard(size, MARKS);
+
+        while (board.getMoveCount() < size * size / 3) {
+            final int cell = random.nextInt(size * size);
+            if (!board.isOccupied(cell)) {
+                board.makeMove(cell);
+            }
+        }
+        while (board.isOccupied(emptyCell)) {
+            emptyCell++;
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        return Evaluation.evaluate(board, 0);
+    }
+
+    @Benchmark
+    public int makeMoveEvaluateUndo() {
+        board.makeMove(emptyCell);
+        final int score = Evaluation.evaluate(board, 0);
+        board.undoMove();
+        return score;
+    }
+}
@@ -0,0 +1,69 @@
+package tictactoe.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    @Param({"board", "bitboard"})
+    private String boardType;
+
+    private Board board;
+    private BoardPosition lastPosition;
+
+    //half of the cells are filled at random, the same for every run
+    @Setup
+    public void setup() {
+        final Random random = new Random(size);
+        board = "bitboard".equals(boardType) ? new BitBoard(size) : new Board(size);
+        lastPosition = BoardPosition.of(0, 0);
+
+        for (int move = 0; move < size * size / 2; move++) {
+            final int row = random.nextInt(size);
+            final int col = random.nextInt(size);
+            if (!board.isPositionOccupied(row, col)) {
+                board = board.placeMark(row, col, MARKS[move % MARKS.length]);
+                lastPosition = BoardPosition.of(row, col);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean checkForAWinner() {
+        return board.checkForAWinner(lastPosition);
+    }
+
+    @Benchmark
+    public Set<BoardPosition> getAvailablePositions() {
+        return board.getAvailablePositions();
+    }
+
+    @Benchmark
+    public Board placeMark() {
+        final BoardPosition position = board.getAvailablePositions().iterator().next();
+        return board.placeMark(position.getRow(), position.getCol(), MARKS[0]);
+    }
+}
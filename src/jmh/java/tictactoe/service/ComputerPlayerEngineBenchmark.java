@@ -0,0 +1,65 @@
+package tictactoe.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tictactoe.engine.MinimaxSearch;
+import tictactoe.engine.MonteCarloSearch;
+import tictactoe.model.BoardPosition;
+import tictactoe.model.Game;
+import tictactoe.model.GameConfiguration;
+import tictactoe.model.PlayerMove;
+
+import java.util.concurrent.TimeUnit;
+
+//engines are bounded by depth or playouts instead of time so every call does the same amount of work
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComputerPlayerEngineBenchmark {
+    private static final Character[] PLAYER_MARKS = {'O', 'X', 'A'};
+    private static final long NO_TIMEOUT = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    @Param({"minimax", "mcts"})
+    private String engineType;
+
+    private ComputerPlayerEngine computerPlayerEngine;
+    private Game game;
+
+    @Setup
+    public void setup() {
+        computerPlayerEngine = "mcts".equals(engineType)
+                ? new ComputerPlayerEngine(new MonteCarloSearch(1000, 1 << 16, size), NO_TIMEOUT)
+                : new ComputerPlayerEngine(new MinimaxSearch(3, 1), NO_TIMEOUT);
+
+        final GameService gameService = new GameService(new GameConfiguration(PLAYER_MARKS, size), computerPlayerEngine);
+        game = gameService.startNewComputerGame(size);
+        game = gameService.playerMakesMove(game, BoardPosition.of(size / 2, size / 2));
+    }
+
+    //a new game every call so the transposition table can't answer from the previous call
+    @Benchmark
+    public PlayerMove getComputerPlayerMove() {
+        computerPlayerEngine.newGame(size);
+        return computerPlayerEngine.getComputerPlayerMove(game);
+    }
+
+    @Benchmark
+    public PlayerMove getComputerPlayerMoveAnyAvailable() {
+        return computerPlayerEngine.getComputerPlayerMove(game.getBoard());
+    }
+}
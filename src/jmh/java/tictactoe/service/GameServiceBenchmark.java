@@ -0,0 +1,65 @@
+package tictactoe.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tictactoe.model.BoardPosition;
+import tictactoe.model.Game;
+import tictactoe.model.GameConfiguration;
+import tictactoe.model.GameState;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameServiceBenchmark {
+    private static final Character[] PLAYER_MARKS = {'O', 'X', 'A'};
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    private GameService gameService;
+    private Game game;
+    private GameState gameState;
+    private BoardPosition position;
+
+    @Setup
+    public void setup() {
+        gameService = new GameService(new GameConfiguration(PLAYER_MARKS, size), new ComputerPlayerEngine());
+        game = gameService.startNewComputerGame(size);
+        for (int col = 0; col < size - 1; col++) {
+            game = gameService.playerMakesMove(game, BoardPosition.of(0, col));
+        }
+        position = BoardPosition.of(size - 1, size - 1);
+
+        gameState = gameService.startNewComputerGameState(size);
+        for (int col = 0; col < size - 1; col++) {
+            gameService.playerMakesMove(gameState, BoardPosition.of(0, col));
+        }
+    }
+
+    @Benchmark
+    public Game playerMakesMove() {
+        return gameService.playerMakesMove(game, position);
+    }
+
+    //the move is taken back so every call starts from the same position
+    @Benchmark
+    public GameState playerMakesMoveInPlace() {
+        gameService.playerMakesMove(gameState, position);
+        gameState.undoMove();
+        return gameState;
+    }
+}
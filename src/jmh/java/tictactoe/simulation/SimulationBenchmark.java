@@ -0,0 +1,54 @@
+package tictactoe.simulation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tictactoe.engine.MonteCarloSearch;
+import tictactoe.model.GameConfiguration;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.GameService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+    private static final Character[] PLAYER_MARKS = {'O', 'X', 'A'};
+    private static final long NO_TIMEOUT = TimeUnit.HOURS.toMillis(1);
+
+    @Param({"3", "4", "5", "6", "7", "8", "9", "10"})
+    private int size;
+
+    private SelfPlaySimulator selfPlaySimulator;
+    private long seed;
+
+    @Setup
+    public void setup() {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        for (final Character playerMark : PLAYER_MARKS) {
+            enginesByMark.put(playerMark, new ComputerPlayerEngine(new MonteCarloSearch(100, 1 << 14, 0), NO_TIMEOUT));
+        }
+
+        final GameService gameService = new GameService(new GameConfiguration(PLAYER_MARKS, size), enginesByMark.get('O'));
+        selfPlaySimulator = new SelfPlaySimulator(gameService, enginesByMark);
+    }
+
+    @Benchmark
+    public SimulationResult playFullGame() {
+        return selfPlaySimulator.run(1, seed++);
+    }
+}
@@ -1,8 +1,16 @@
 package tictactoe;
 
+import tictactoe.engine.EndgameSolver;
+import tictactoe.engine.OpeningBook;
+import tictactoe.engine.ProofNumberSearch;
+import tictactoe.engine.SearchEngine;
+import tictactoe.engine.SearchEngineFactory;
+import tictactoe.engine.Tablebase;
+import tictactoe.model.EngineConfiguration;
 import tictactoe.model.GameConfiguration;
 import tictactoe.presenter.TicTacToePresenter;
 import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.ComputerPlayerEngine.ComputerPlayerEngineBuilder;
 import tictactoe.service.ConfigurationLoader;
 import tictactoe.service.GameService;
 import tictactoe.view.TicTacToeConsole;
@@ -11,24 +19,52 @@ import tictactoe.view.TicTacToeView;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 
 public class Main {
+    private static final String OPENING_BOOK_FILE = "opening.book";
+    private static final String TABLEBASE_FILE = "tablebase-%d.bin";
 
     public static void main(final String[] args) {
         final Optional<GameConfiguration> gameConfiguration = loadConfiguration(args);
 
         if (gameConfiguration.isPresent()) {
-            final ComputerPlayerEngine computerPlayerEngine = new ComputerPlayerEngine();
+            final EngineConfiguration engineConfiguration = gameConfiguration.get().getEngineConfiguration();
+            final SearchEngine searchEngine = SearchEngineFactory.createSearchEngine(engineConfiguration);
+            final OpeningBook openingBook = loadOpeningBook().orElse(null);
+            final Tablebase tablebase = loadTablebase(gameConfiguration.get().getPlaygroundSize()).orElse(null);
+            final EndgameSolver endgameSolver = SearchEngineFactory.createEndgameSolver(engineConfiguration);
+            final ProofNumberSearch proofNumberSearch = SearchEngineFactory.createProofNumberSearch(engineConfiguration);
+            final ComputerPlayerEngine computerPlayerEngine =
+                    new ComputerPlayerEngineBuilder(searchEngine, engineConfiguration.getMoveTimeoutMillis()).openingBook(openingBook)
+                                                                                                              .tablebase(tablebase)
+                                                                                                              .endgameSolver(endgameSolver)
+                                                                                                              .proofNumberSearch(proofNumberSearch)
+                                                                                                              .deterministic(engineConfiguration.isDeterministic())
+                                                                                                              .build();
             final GameService gameService = new GameService(gameConfiguration.get(), computerPlayerEngine);
             final TicTacToeView ticTacToeView = new TicTacToeConsole(System.in);
             final TicTacToePresenter ticTacToePresenter = new TicTacToePresenter(gameService, ticTacToeView);
             final ConsoleApp consoleApp = new ConsoleApp(ticTacToePresenter);
 
             consoleApp.play();
+            computerPlayerEngine.close();
         }
     }
 
+    private static Optional<OpeningBook> loadOpeningBook() {
+        final Path bookFile = Paths.get(OPENING_BOOK_FILE);
+        return Files.exists(bookFile) ? OpeningBook.load(bookFile) : Optional.empty();
+    }
+
+    private static Optional<Tablebase> loadTablebase(final int playgroundSize) {
+        final Path tablebaseFile = Paths.get(String.format(TABLEBASE_FILE, playgroundSize));
+        return Files.exists(tablebaseFile) ? Tablebase.load(tablebaseFile) : Optional.empty();
+    }
+
     private static Optional<GameConfiguration> loadConfiguration(final String[] args) {
         final ConfigurationLoader configurationLoader = new ConfigurationLoader();
 
@@ -0,0 +1,173 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+import tictactoe.model.ZobristKeys;
+
+import java.util.Optional;
+
+import static tictactoe.engine.TranspositionTable.EXACT;
+import static tictactoe.engine.TranspositionTable.LOWER_BOUND;
+import static tictactoe.engine.TranspositionTable.NO_ENTRY;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.engine.TranspositionTable.UPPER_BOUND;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//solves the end of a game exactly: every line of play is followed to a win, a loss or a draw of the player to move,
+//the empty cells are kept as a bit mask over a list of them so the search doesn't allocate
+public class EndgameSolver {
+    public static final int MAX_EMPTY_CELLS = 20;
+    //the largest threshold the configuration accepts, solving 12 empty cells stays within a few tens of milliseconds
+    public static final int MAX_CONFIGURED_EMPTY_CELLS = 12;
+    static final int DEFAULT_TABLE_MEGABYTES = 4;
+    private static final int WIN = 1;
+    private static final int DRAW = 0;
+    private static final int LOSS = -1;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private final int maxEmptyCells;
+    private final TranspositionTable solvedPositions;
+    private final int[] emptyCells = new int[MAX_EMPTY_CELLS];
+    private long nodes;
+    private int rootPlayer;
+    private long rootKey;
+    private long deadlineNanos;
+    private boolean aborted;
+
+    public EndgameSolver(final int maxEmptyCells) {
+        this(maxEmptyCells, DEFAULT_TABLE_MEGABYTES);
+    }
+
+    public EndgameSolver(final int maxEmptyCells, final int tableMegabytes) {
+        if (maxEmptyCells < 1 || maxEmptyCells > MAX_EMPTY_CELLS) {
+            throw new IllegalArgumentException("Endgame solver empty cells should be between 1-" + MAX_EMPTY_CELLS + ".");
+        }
+        this.maxEmptyCells = maxEmptyCells;
+        this.solvedPositions = new TranspositionTable(tableMegabytes);
+    }
+
+    public int getMaxEmptyCells() {
+        return maxEmptyCells;
+    }
+
+    public void clear() {
+        solvedPositions.clear();
+    }
+
+    public boolean canSolve(final MutableBoard board) {
+        return !board.isGameOver() && board.getEmptyCount() <= maxEmptyCells;
+    }
+
+    //solved positions don't depend on the game they were found in, so they are kept across games,
+    //empty when the deadline comes first, as a partial solve tells nothing about the position
+    public Optional<SearchResult> solve(final MutableBoard board, final long deadlineNanos) {
+        if (!canSolve(board)) {
+            throw new IllegalArgumentException("Endgame solver can't solve a finished game or one with more than "
+                                               + maxEmptyCells + " empty cells.");
+        }
+
+        nodes = 0;
+        aborted = false;
+        this.deadlineNanos = deadlineNanos;
+        rootPlayer = board.getPlayerToMove();
+        rootKey = ZobristKeys.playerKey(rootPlayer);
+        solvedPositions.newSearch();
+
+        //the empty cells are listed center first so the mask is walked in the same order as the other searches
+        int emptyCount = 0;
+        for (final int cell : MinimaxSearch.cellOrder(board.getSize())) {
+            if (!board.isOccupied(cell)) {
+                emptyCells[emptyCount++] = cell;
+            }
+        }
+
+        final int allEmpty = (1 << emptyCount) - 1;
+        int bestMove = NO_MOVE;
+        int bestValue = LOSS - 1;
+        for (int remaining = allEmpty; remaining != 0 && bestValue < WIN && !aborted; remaining &= remaining - 1) {
+            final int index = Integer.numberOfTrailingZeros(remaining);
+            board.makeMove(emptyCells[index]);
+            final int value = solve(board, allEmpty & ~(1 << index), Math.max(bestValue, LOSS), WIN);
+            board.undoMove();
+
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = emptyCells[index];
+            }
+        }
+
+        if (aborted) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchResult(bestMove, bestValue * MinimaxSearch.WIN_SCORE, emptyCount, nodes));
+    }
+
+    //paranoid like the minimax search: the other players all play against the root player
+    private int solve(final MutableBoard board, final int emptyMask, final int alpha, final int beta) {
+        nodes++;
+        if (nodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() >= deadlineNanos) {
+            aborted = true;
+        }
+        if (aborted) {
+            return DRAW;
+        }
+        final int winner = board.getWinner();
+        if (winner != NO_PLAYER) {
+            return winner == rootPlayer ? WIN : LOSS;
+        }
+        if (board.isGameOver()) {
+            return DRAW;
+        }
+        //a player to move with a line one mark short of a win takes it
+        final int player = board.getPlayerToMove();
+        if (board.getThreatLineCount(player) > 0) {
+            return player == rootPlayer ? WIN : LOSS;
+        }
+
+        final long key = board.getZobristKey() ^ rootKey;
+        final long entry = solvedPositions.probe(key);
+        int currentAlpha = alpha;
+        int currentBeta = beta;
+        if (entry != NO_ENTRY) {
+            final int value = TranspositionTable.score(entry);
+            final int bound = TranspositionTable.bound(entry);
+            if (bound == EXACT) {
+                return value;
+            }
+            if (bound == LOWER_BOUND) {
+                currentAlpha = Math.max(currentAlpha, value);
+            } else {
+                currentBeta = Math.min(currentBeta, value);
+            }
+            if (currentAlpha >= currentBeta) {
+                return value;
+            }
+        }
+        final int windowAlpha = currentAlpha;
+        final int windowBeta = currentBeta;
+
+        final boolean maximizing = player == rootPlayer;
+        int bestValue = maximizing ? LOSS : WIN;
+        for (int remaining = emptyMask; remaining != 0 && currentAlpha < currentBeta && !aborted; remaining &= remaining - 1) {
+            final int index = Integer.numberOfTrailingZeros(remaining);
+            board.makeMove(emptyCells[index]);
+            final int value = solve(board, emptyMask & ~(1 << index), currentAlpha, currentBeta);
+            board.undoMove();
+
+            if (maximizing) {
+                bestValue = Math.max(bestValue, value);
+                currentAlpha = Math.max(currentAlpha, value);
+            } else {
+                bestValue = Math.min(bestValue, value);
+                currentBeta = Math.min(currentBeta, value);
+            }
+        }
+
+        //values cut short by the deadline are not stored
+        if (aborted) {
+            return bestValue;
+        }
+        final int bound = bestValue <= windowAlpha ? UPPER_BOUND
+                                                   : bestValue >= windowBeta ? LOWER_BOUND : EXACT;
+        solvedPositions.store(key, bestValue, Integer.bitCount(emptyMask), bound, NO_MOVE);
+        return bestValue;
+    }
+}
@@ -0,0 +1,18 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+public final class Evaluation {
+    private Evaluation() {
+    }
+
+    //the line scores are kept up to date by the board, so this only depends on the number of players,
+    //every opponent counts against the player like in the paranoid search
+    public static int evaluate(final MutableBoard board, final int player) {
+        int score = 0;
+        for (int other = 0; other < board.getPlayerCount(); other++) {
+            score += other == player ? board.getLineScore(other) : -board.getLineScore(other);
+        }
+        return score;
+    }
+}
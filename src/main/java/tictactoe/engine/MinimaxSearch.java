@@ -0,0 +1,503 @@
+package tictactoe.engine;
+
+import tictactoe.model.BoardSymmetry;
+import tictactoe.model.MutableBoard;
+import tictactoe.model.ZobristKeys;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+import static tictactoe.engine.TranspositionTable.EXACT;
+import static tictactoe.engine.TranspositionTable.LOWER_BOUND;
+import static tictactoe.engine.TranspositionTable.NO_ENTRY;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.engine.TranspositionTable.UPPER_BOUND;
+import static tictactoe.model.BoardSymmetry.IDENTITY;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+public class MinimaxSearch implements SearchEngine {
+    static final int WIN_SCORE = 1_000_000;
+    static final int DEFAULT_TABLE_MEGABYTES = 16;
+    static final int INFINITY = Integer.MAX_VALUE;
+    static final int WIN_SCORE_THRESHOLD = WIN_SCORE - 1000;
+    private static final int ASPIRATION_WINDOW = 8;
+    private static final long TIME_CHECK_MASK = 1023;
+    private static final ConcurrentMap<Integer, int[]> CELL_ORDER_BY_SIZE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<Integer, int[]> CELL_RANKS_BY_SIZE = new ConcurrentHashMap<>();
+    private final int maxDepth;
+    private final TranspositionTable transpositionTable;
+    private final TranspositionTable solvedPositions;
+    private final MoveOrdering moveOrdering = new MoveOrdering();
+    private long nodes;
+    private long deadlineNanos;
+    private boolean aborted;
+    private int rootPlayer;
+    private long rootKey;
+    //line of best play found by the last finished iteration, it starts at the move count it was searched at
+    private int[] principalVariation = new int[0];
+    private int principalVariationStart;
+    private long principalVariationKey;
+    private boolean followingPrincipalVariation;
+
+    public MinimaxSearch() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public MinimaxSearch(final int maxDepth) {
+        this(maxDepth, DEFAULT_TABLE_MEGABYTES);
+    }
+
+    public MinimaxSearch(final int maxDepth, final int tableMegabytes) {
+        this(maxDepth, new TranspositionTable(tableMegabytes), new TranspositionTable(tableMegabytes));
+    }
+
+    MinimaxSearch(final int maxDepth, final TranspositionTable transpositionTable, final TranspositionTable solvedPositions) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Search depth should be at least 1.");
+        }
+        this.maxDepth = maxDepth;
+        this.transpositionTable = transpositionTable;
+        this.solvedPositions = solvedPositions;
+    }
+
+    //solved positions don't depend on the game they were found in, so they are kept
+    @Override
+    public void newGame() {
+        transpositionTable.clear();
+        moveOrdering.reset();
+        principalVariation = new int[0];
+    }
+
+    @Override
+    public void clear() {
+        newGame();
+        solvedPositions.clear();
+    }
+
+    @Override
+    public SearchResult search(final MutableBoard board, final long deadlineNanos) {
+        if (board.isGameOver()) {
+            throw new IllegalArgumentException("There are no moves to search on a finished game.");
+        }
+
+        startSearch(board, deadlineNanos);
+        transpositionTable.newSearch();
+        solvedPositions.newSearch();
+        continuePrincipalVariation(board);
+
+        final int targetDepth = Math.min(maxDepth, board.getEmptyCount());
+        final SearchResult solvedResult = solvedResult(board);
+        if (solvedResult != null && targetDepth == board.getEmptyCount()) {
+            return solvedResult;
+        }
+
+        //iterative deepening: a finished iteration is kept when the deadline stops the next one
+        SearchResult bestResult = null;
+        for (int depth = 1; depth <= targetDepth; depth++) {
+            final SearchResult result = aspirationSearch(board, depth, bestResult);
+            if (aborted) {
+                break;
+            }
+
+            bestResult = result;
+            storePrincipalVariation(board, result.getBestMove(), depth);
+            if (Math.abs(result.getScore()) > WIN_SCORE_THRESHOLD) {
+                break;
+            }
+        }
+
+        if (bestResult == null) {
+            return new SearchResult(firstAvailableMove(board), 0, 0, nodes);
+        }
+        return new SearchResult(bestResult.getBestMove(), bestResult.getScore(), bestResult.getDepth(), nodes,
+                                getPrincipalVariation());
+    }
+
+    //the line from the root of the last search, the current position may be further down that line
+    int[] getPrincipalVariation() {
+        return principalVariation.clone();
+    }
+
+    //the window around the score of the previous iteration is opened fully when the score falls outside of it
+    private SearchResult aspirationSearch(final MutableBoard board, final int depth, final SearchResult previousResult) {
+        if (previousResult == null || !usesAspirationWindows() || Math.abs(previousResult.getScore()) > WIN_SCORE_THRESHOLD) {
+            return searchRoot(board, depth, -INFINITY, INFINITY);
+        }
+
+        final int alpha = previousResult.getScore() - ASPIRATION_WINDOW;
+        final int beta = previousResult.getScore() + ASPIRATION_WINDOW;
+        final SearchResult result = searchRoot(board, depth, alpha, beta);
+        if (aborted || result.getScore() > alpha && result.getScore() < beta) {
+            return result;
+        }
+        return searchRoot(board, depth, -INFINITY, INFINITY);
+    }
+
+    boolean usesAspirationWindows() {
+        return true;
+    }
+
+    //principal variation search: the first move gets the whole window, the others a null window that only
+    //proves they are not better, a move proving otherwise is searched again with the whole window,
+    //ties go to the cell nearest to the center whatever the search order, so the parallel search picks the same move
+    SearchResult searchRoot(final MutableBoard board, final int depth, final int alpha, final int beta) {
+        final int principalMove = rootPrincipalMove();
+        final int[] cellRanks = cellRanks(board.getSize());
+        int bestMove = NO_MOVE;
+        int bestScore = -INFINITY;
+        int currentAlpha = alpha;
+
+        for (final int cell : rootMoves(board, depth)) {
+            followingPrincipalVariation = cell == principalMove;
+            int score;
+            if (bestMove == NO_MOVE) {
+                bestMove = cell;
+                score = searchMove(board, cell, depth, currentAlpha, beta);
+            } else {
+                //a cell nearer to the center than the best move also needs to show when it only ties
+                final boolean winsTies = cellRanks[cell] < cellRanks[bestMove] && currentAlpha > -INFINITY;
+                final int nullAlpha = winsTies ? currentAlpha - 1 : currentAlpha;
+                score = searchMove(board, cell, depth, nullAlpha, currentAlpha + 1);
+                if (score > currentAlpha && score < beta && !aborted) {
+                    score = searchMove(board, cell, depth, currentAlpha, beta);
+                }
+            }
+            if (aborted) {
+                break;
+            }
+            if (score > bestScore || score == bestScore && cellRanks[cell] < cellRanks[bestMove]) {
+                bestScore = score;
+                bestMove = cell;
+            }
+            currentAlpha = Math.max(currentAlpha, score);
+            if (currentAlpha >= beta) {
+                break;
+            }
+        }
+
+        if (bestScore > alpha && bestScore < beta) {
+            storeRootResult(board, depth, bestMove, bestScore);
+        }
+        return new SearchResult(bestMove, bestScore, depth, nodes);
+    }
+
+    void startSearch(final MutableBoard board, final long deadlineNanos) {
+        this.nodes = 0;
+        this.deadlineNanos = deadlineNanos;
+        this.aborted = false;
+        this.rootPlayer = board.getPlayerToMove();
+        this.rootKey = ZobristKeys.playerKey(rootPlayer);
+    }
+
+    //a worker shares the tables so the other workers and the next searches can use what it finds
+    MinimaxSearch createWorker() {
+        return new MinimaxSearch(maxDepth, transpositionTable, solvedPositions);
+    }
+
+    int searchMove(final MutableBoard board, final int cell, final int depth, final int alpha) {
+        return searchMove(board, cell, depth, alpha, INFINITY);
+    }
+
+    private int searchMove(final MutableBoard board, final int cell, final int depth, final int alpha, final int beta) {
+        board.makeMove(cell);
+        final int score = minimax(board, depth - 1, 1, alpha, beta);
+        board.undoMove();
+        return score;
+    }
+
+    //the table move first, or the next move of the principal variation without one, then the cells from the center
+    //out, the parallel search splits the root in this same order so both searches break ties on the same move
+    int[] rootMoves(final MutableBoard board, final int depth) {
+        final int[] cellOrder = cellOrder(board.getSize());
+        final int tableMove = rootTableMove(board, depth);
+        final int firstMove = tableMove != NO_MOVE ? tableMove : rootPrincipalMove();
+        final int[] rootMoves = new int[board.getEmptyCount()];
+        int moveCount = 0;
+
+        for (int index = -1; index < cellOrder.length; index++) {
+            final int cell = index < 0 ? firstMove : cellOrder[index];
+            if (isSearchable(board, cell, index, firstMove)) {
+                rootMoves[moveCount++] = cell;
+            }
+        }
+        return rootMoves;
+    }
+
+    private int rootTableMove(final MutableBoard board, final int depth) {
+        final int symmetry = tableSymmetry(board, depth);
+        return tableMove(board, table(board, depth).probe(tableKey(board, symmetry)), symmetry);
+    }
+
+    private int rootPrincipalMove() {
+        return principalVariation.length > 0 ? principalVariation[0] : NO_MOVE;
+    }
+
+    void storeRootResult(final MutableBoard board, final int depth, final int bestMove, final int bestScore) {
+        if (!aborted) {
+            final int symmetry = tableSymmetry(board, depth);
+            final int storedMove = BoardSymmetry.transform(board.getSize(), symmetry, bestMove);
+            table(board, depth).store(tableKey(board, symmetry), bestScore, depth, EXACT, storedMove);
+        }
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    void addNodes(final long workerNodes) {
+        nodes += workerNodes;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    void abort() {
+        aborted = true;
+    }
+
+    private SearchResult solvedResult(final MutableBoard board) {
+        final int emptyCount = board.getEmptyCount();
+        final int symmetry = board.getCanonicalSymmetry();
+        final long entry = solvedPositions.probe(tableKey(board, symmetry));
+        final int move = tableMove(board, entry, symmetry);
+        if (move == NO_MOVE || TranspositionTable.depth(entry) < emptyCount || TranspositionTable.bound(entry) != EXACT) {
+            return null;
+        }
+        return new SearchResult(move, TranspositionTable.score(entry), emptyCount, nodes);
+    }
+
+    //the line of the last search is followed again when the other players made the moves it expected, the board key
+    //is checked instead of the move history as boards rebuilt from a game don't keep the order the moves were made in
+    void continuePrincipalVariation(final MutableBoard board) {
+        final int playedMoves = board.getMoveCount() - principalVariationStart;
+        final boolean continues = playedMoves >= 0 && playedMoves < principalVariation.length
+                && board.getZobristKey() == principalVariationKey(board, playedMoves);
+
+        principalVariation = continues ? Arrays.copyOfRange(principalVariation, playedMoves, principalVariation.length) : new int[0];
+        principalVariationStart = board.getMoveCount();
+    }
+
+    //the line after the best move is read back from the tables, every position on it keeps the best move found for it
+    private void storePrincipalVariation(final MutableBoard board, final int bestMove, final int depth) {
+        final int[] line = new int[depth];
+        int length = 0;
+        int move = bestMove;
+        while (length < depth && move != NO_MOVE && !board.isOccupied(move)) {
+            board.makeMove(move);
+            line[length++] = move;
+            if (board.isGameOver()) {
+                break;
+            }
+
+            final int nodeDepth = Math.min(depth - length, board.getEmptyCount());
+            final int symmetry = tableSymmetry(board, nodeDepth);
+            move = tableMove(board, table(board, nodeDepth).probe(tableKey(board, symmetry)), symmetry);
+        }
+        for (int ply = 0; ply < length; ply++) {
+            board.undoMove();
+        }
+
+        principalVariation = Arrays.copyOf(line, length);
+        principalVariationStart = board.getMoveCount();
+        principalVariationKey = board.getZobristKey();
+    }
+
+    //key of the position reached from the start of the line after its first moves, each made by the player in turn
+    private long principalVariationKey(final MutableBoard board, final int playedMoves) {
+        long key = principalVariationKey;
+        for (int move = 0; move < playedMoves; move++) {
+            final int player = (principalVariationStart + move) % board.getPlayerCount();
+            key ^= ZobristKeys.cellKey(board.getSize(), principalVariation[move], player);
+        }
+        return key;
+    }
+
+    private int principalMove(final int ply) {
+        return followingPrincipalVariation && ply < principalVariation.length ? principalVariation[ply] : NO_MOVE;
+    }
+
+    private static int firstAvailableMove(final MutableBoard board) {
+        for (final int cell : cellOrder(board.getSize())) {
+            if (!board.isOccupied(cell)) {
+                return cell;
+            }
+        }
+        return NO_MOVE;
+    }
+
+    private int minimax(final MutableBoard board, final int depth, final int ply, final int alpha, final int beta) {
+        nodes++;
+        if ((nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() >= deadlineNanos) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        final int winner = board.getWinner();
+        if (winner != NO_PLAYER) {
+            return winner == rootPlayer ? WIN_SCORE - ply : -WIN_SCORE + ply;
+        }
+        if (board.isGameOver()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return Evaluation.evaluate(board, rootPlayer);
+        }
+
+        final int nodeDepth = Math.min(depth, board.getEmptyCount());
+        final TranspositionTable table = table(board, nodeDepth);
+        final int symmetry = tableSymmetry(board, nodeDepth);
+        final long key = tableKey(board, symmetry);
+        final long entry = table.probe(key);
+        int currentAlpha = alpha;
+        int currentBeta = beta;
+        if (entry != NO_ENTRY && TranspositionTable.depth(entry) >= nodeDepth) {
+            final int tableScore = fromTableScore(TranspositionTable.score(entry), ply);
+            final int bound = TranspositionTable.bound(entry);
+            if (bound == EXACT) {
+                return tableScore;
+            }
+            if (bound == LOWER_BOUND) {
+                currentAlpha = Math.max(currentAlpha, tableScore);
+            } else {
+                currentBeta = Math.min(currentBeta, tableScore);
+            }
+            if (currentAlpha >= currentBeta) {
+                return tableScore;
+            }
+        }
+        final int windowAlpha = currentAlpha;
+        final int windowBeta = currentBeta;
+
+        //paranoid search: every opponent plays against the root player
+        final boolean maximizing = board.getPlayerToMove() == rootPlayer;
+        final int principalMove = principalMove(ply);
+        final int tableMove = tableMove(board, entry, symmetry);
+        final int firstMove = tableMove != NO_MOVE ? tableMove : principalMove;
+        final int moveCount = moveOrdering.generateMoves(board, ply, firstMove);
+        int bestScore = maximizing ? -INFINITY : INFINITY;
+        int bestMove = NO_MOVE;
+
+        for (int index = 0; index < moveCount; index++) {
+            final int cell = moveOrdering.nextMove(ply, index, moveCount);
+            followingPrincipalVariation = principalMove != NO_MOVE && cell == principalMove;
+            board.makeMove(cell);
+            int score;
+            if (index == 0) {
+                score = minimax(board, nodeDepth - 1, ply + 1, currentAlpha, currentBeta);
+            } else {
+                //a null window on the side of the player to move, only a move beating the best one is searched again
+                final int nullAlpha = maximizing ? currentAlpha : currentBeta - 1;
+                score = minimax(board, nodeDepth - 1, ply + 1, nullAlpha, nullAlpha + 1);
+                if (score > currentAlpha && score < currentBeta && !aborted) {
+                    score = minimax(board, nodeDepth - 1, ply + 1, currentAlpha, currentBeta);
+                }
+            }
+            board.undoMove();
+
+            if (maximizing ? score > bestScore : score < bestScore) {
+                bestScore = score;
+                bestMove = cell;
+            }
+            if (maximizing) {
+                currentAlpha = Math.max(currentAlpha, score);
+            } else {
+                currentBeta = Math.min(currentBeta, score);
+            }
+            if (currentAlpha >= currentBeta) {
+                if (!aborted) {
+                    moveOrdering.recordCutoff(board, ply, cell, nodeDepth);
+                }
+                break;
+            }
+        }
+
+        if (!aborted) {
+            final int bound = bestScore <= windowAlpha ? UPPER_BOUND
+                                                       : bestScore >= windowBeta ? LOWER_BOUND : EXACT;
+            final int storedMove = BoardSymmetry.transform(board.getSize(), symmetry, bestMove);
+            table.store(key, toTableScore(bestScore, ply), nodeDepth, bound, storedMove);
+        }
+        return bestScore;
+    }
+
+    //a search reaching every end of the game gives the same value for all the symmetries of the position
+    private static boolean isSolving(final MutableBoard board, final int depth) {
+        return depth >= board.getEmptyCount();
+    }
+
+    private TranspositionTable table(final MutableBoard board, final int depth) {
+        return isSolving(board, depth) ? solvedPositions : transpositionTable;
+    }
+
+    private static int tableSymmetry(final MutableBoard board, final int depth) {
+        return isSolving(board, depth) ? board.getCanonicalSymmetry() : IDENTITY;
+    }
+
+    private long tableKey(final MutableBoard board, final int symmetry) {
+        return board.getSymmetryKey(symmetry) ^ rootKey;
+    }
+
+    private static int tableMove(final MutableBoard board, final long entry, final int symmetry) {
+        if (entry == NO_ENTRY || TranspositionTable.bestMove(entry) == NO_MOVE) {
+            return NO_MOVE;
+        }
+        return BoardSymmetry.transform(board.getSize(), BoardSymmetry.inverse(symmetry), TranspositionTable.bestMove(entry));
+    }
+
+    //the table move is tried first (index -1) and skipped when it comes up again in the static order
+    static boolean isSearchable(final MutableBoard board, final int cell, final int index, final int tableMove) {
+        return cell != NO_MOVE && !board.isOccupied(cell) && (index < 0 || cell != tableMove);
+    }
+
+    //win scores are stored relative to the node so they stay valid when reached at another ply
+    private static int toTableScore(final int score, final int ply) {
+        if (score > WIN_SCORE_THRESHOLD) {
+            return score + ply;
+        }
+        return score < -WIN_SCORE_THRESHOLD ? score - ply : score;
+    }
+
+    private static int fromTableScore(final int score, final int ply) {
+        if (score > WIN_SCORE_THRESHOLD) {
+            return score - ply;
+        }
+        return score < -WIN_SCORE_THRESHOLD ? score + ply : score;
+    }
+
+    //center cells first, they take part in more lines
+    //position of every cell in the cell order
+    static int[] cellRanks(final int size) {
+        return CELL_RANKS_BY_SIZE.computeIfAbsent(size, boardSize -> {
+            final int[] cellOrder = cellOrder(boardSize);
+            final int[] cellRanks = new int[cellOrder.length];
+            for (int rank = 0; rank < cellOrder.length; rank++) {
+                cellRanks[cellOrder[rank]] = rank;
+            }
+            return cellRanks;
+        });
+    }
+
+    static int[] cellOrder(final int size) {
+        return CELL_ORDER_BY_SIZE.computeIfAbsent(size, boardSize -> {
+            final double center = (boardSize - 1) / 2.0;
+            final Comparator<Integer> byDistanceToCenter = Comparator.comparingDouble(
+                    cell -> Math.abs(cell / boardSize - center) + Math.abs(cell % boardSize - center));
+
+            return IntStream.range(0, boardSize * boardSize)
+                            .boxed()
+                            .sorted(byDistanceToCenter.thenComparing(Comparator.naturalOrder()))
+                            .mapToInt(Integer::intValue)
+                            .toArray();
+        });
+    }
+}
@@ -0,0 +1,273 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+import tictactoe.model.ZobristKeys;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+public class MonteCarloSearch implements SearchEngine {
+    static final int DEFAULT_NODE_CAPACITY = 1 << 20;
+    static final int UNLIMITED_PLAYOUTS = 0;
+    private static final int NO_NODE = -1;
+    private static final int NOT_EXPANDED = -1;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final long TIME_CHECK_MASK = 15;
+    private static final int BYTES_PER_NODE = 4 * Integer.BYTES + Double.BYTES + Long.BYTES;
+    private final int playoutLimit;
+    //the tree is kept in parallel arrays, children of a node are stored next to each other
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[] moves;
+    private final int[] visits;
+    private final double[] rewards;
+    private final long[] keys;
+    private SplittableRandom random;
+    private int nodeCount;
+    private int root = NO_NODE;
+    private int[] path = new int[0];
+    private int[] emptyCells = new int[0];
+    private int maxTreeDepth;
+    private double playoutsPerSecond;
+
+    public MonteCarloSearch() {
+        this(UNLIMITED_PLAYOUTS);
+    }
+
+    public MonteCarloSearch(final int playoutLimit) {
+        this(playoutLimit, DEFAULT_NODE_CAPACITY, new SplittableRandom());
+    }
+
+    public MonteCarloSearch(final int playoutLimit, final int nodeCapacity) {
+        this(playoutLimit, nodeCapacity, new SplittableRandom());
+    }
+
+    public MonteCarloSearch(final int playoutLimit, final int nodeCapacity, final long seed) {
+        this(playoutLimit, nodeCapacity, new SplittableRandom(seed));
+    }
+
+    private MonteCarloSearch(final int playoutLimit, final int nodeCapacity, final SplittableRandom random) {
+        if (playoutLimit < 0 || nodeCapacity < 1) {
+            throw new IllegalArgumentException("Invalid Monte Carlo search parameters.");
+        }
+        this.playoutLimit = playoutLimit;
+        this.random = random;
+        this.firstChild = new int[nodeCapacity];
+        this.childCount = new int[nodeCapacity];
+        this.moves = new int[nodeCapacity];
+        this.visits = new int[nodeCapacity];
+        this.rewards = new double[nodeCapacity];
+        this.keys = new long[nodeCapacity];
+    }
+
+    //the nodes that fit in a tree of the given size
+    static int nodeCapacity(final int megabytes) {
+        return (int) Math.min((long) megabytes * 1024 * 1024 / BYTES_PER_NODE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void newGame() {
+        root = NO_NODE;
+        nodeCount = 0;
+    }
+
+    @Override
+    public void newGame(final long seed) {
+        newGame();
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public double getPlayoutsPerSecond() {
+        return playoutsPerSecond;
+    }
+
+    int getRootVisits() {
+        return root != NO_NODE ? visits[root] : 0;
+    }
+
+    @Override
+    public SearchResult search(final MutableBoard board, final long deadlineNanos) {
+        if (board.isGameOver()) {
+            throw new IllegalArgumentException("There are no moves to search on a finished game.");
+        }
+        if (path.length < board.getCellCount() + 1) {
+            path = new int[board.getCellCount() + 1];
+            emptyCells = new int[board.getCellCount()];
+        }
+
+        final long startNanos = System.nanoTime();
+        root = reusableRoot(board);
+        if (root == NO_NODE || firstChild[root] == NOT_EXPANDED && !expand(root, board)) {
+            nodeCount = 0;
+            root = newNode(board.getZobristKey(), NO_MOVE);
+            if (!expand(root, board)) {
+                throw new IllegalArgumentException("Monte Carlo search tree is too small for the board.");
+            }
+        }
+
+        maxTreeDepth = 0;
+        long playouts = 0;
+        while (playoutLimit == UNLIMITED_PLAYOUTS || playouts < playoutLimit) {
+            if ((playouts & TIME_CHECK_MASK) == 0 && System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+            playout(board);
+            playouts++;
+        }
+
+        final long elapsedNanos = Math.max(1, System.nanoTime() - startNanos);
+        playoutsPerSecond = playouts * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+
+        final int bestChild = mostVisitedChild(root);
+        final int score = visits[bestChild] > 0 ? (int) (1000 * rewards[bestChild] / visits[bestChild]) : 0;
+        return new SearchResult(moves[bestChild], score, maxTreeDepth, playouts);
+    }
+
+    private void playout(final MutableBoard board) {
+        final int rootMoveCount = board.getMoveCount();
+        int node = root;
+        int depth = 0;
+        path[depth++] = node;
+
+        while (!board.isGameOver()) {
+            if (firstChild[node] == NOT_EXPANDED && !expand(node, board)) {
+                break;
+            }
+            node = selectChild(node);
+            board.makeMove(moves[node]);
+            path[depth++] = node;
+            if (visits[node] == 0) {
+                break;
+            }
+        }
+        maxTreeDepth = Math.max(maxTreeDepth, depth - 1);
+
+        final int winner = board.isGameOver() ? board.getWinner() : randomPlayout(board);
+        for (int move = 1; move < depth; move++) {
+            board.undoMove();
+        }
+
+        //every node keeps the reward of the player who made the move leading to it
+        final int playerCount = board.getPlayerCount();
+        for (int index = 0; index < depth; index++) {
+            final int mover = Math.floorMod(rootMoveCount + index - 1, playerCount);
+            visits[path[index]]++;
+            if (winner == NO_PLAYER) {
+                rewards[path[index]] += 1.0 / playerCount;
+            } else if (winner == mover) {
+                rewards[path[index]] += 1.0;
+            }
+        }
+    }
+
+    private int randomPlayout(final MutableBoard board) {
+        int emptyCount = 0;
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            if (!board.isOccupied(cell)) {
+                emptyCells[emptyCount++] = cell;
+            }
+        }
+
+        int moveCount = 0;
+        while (!board.isGameOver()) {
+            final int index = random.nextInt(emptyCount);
+            board.makeMove(emptyCells[index]);
+            emptyCells[index] = emptyCells[--emptyCount];
+            moveCount++;
+        }
+
+        final int winner = board.getWinner();
+        for (int move = 0; move < moveCount; move++) {
+            board.undoMove();
+        }
+        return winner;
+    }
+
+    //unvisited children are tried first in center first order, then the one with the best upper confidence bound
+    private int selectChild(final int node) {
+        final int first = firstChild[node];
+        final double logVisits = Math.log(Math.max(1, visits[node]));
+        int bestChild = first;
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for (int child = first; child < first + childCount[node]; child++) {
+            if (visits[child] == 0) {
+                return child;
+            }
+            final double value = rewards[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+            if (value > bestValue) {
+                bestValue = value;
+                bestChild = child;
+            }
+        }
+        return bestChild;
+    }
+
+    private boolean expand(final int node, final MutableBoard board) {
+        if (nodeCount + board.getEmptyCount() > firstChild.length) {
+            return false;
+        }
+
+        final int player = board.getPlayerToMove();
+        firstChild[node] = nodeCount;
+        childCount[node] = board.getEmptyCount();
+        for (final int cell : MinimaxSearch.cellOrder(board.getSize())) {
+            if (!board.isOccupied(cell)) {
+                newNode(keys[node] ^ ZobristKeys.cellKey(board.getSize(), cell, player), cell);
+            }
+        }
+        return true;
+    }
+
+    private int newNode(final long key, final int move) {
+        final int node = nodeCount++;
+        firstChild[node] = NOT_EXPANDED;
+        childCount[node] = 0;
+        moves[node] = move;
+        visits[node] = 0;
+        rewards[node] = 0;
+        keys[node] = key;
+        return node;
+    }
+
+    private int mostVisitedChild(final int node) {
+        final int first = firstChild[node];
+        int bestChild = first;
+        for (int child = first + 1; child < first + childCount[node]; child++) {
+            if (visits[child] > visits[bestChild]) {
+                bestChild = child;
+            }
+        }
+        return bestChild;
+    }
+
+    //the subtree of the position reached after the other players' moves is kept for the next search,
+    //the whole tree is dropped once half of the nodes are used so it never runs out of room to grow
+    private int reusableRoot(final MutableBoard board) {
+        if (root == NO_NODE || nodeCount > firstChild.length / 2) {
+            return NO_NODE;
+        }
+        return findNode(root, board.getZobristKey(), board.getPlayerCount());
+    }
+
+    private int findNode(final int node, final long key, final int depth) {
+        if (keys[node] == key) {
+            return node;
+        }
+        if (depth == 0 || firstChild[node] == NOT_EXPANDED) {
+            return NO_NODE;
+        }
+
+        for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+            final int found = findNode(child, key, depth - 1);
+            if (found != NO_NODE) {
+                return found;
+            }
+        }
+        return NO_NODE;
+    }
+}
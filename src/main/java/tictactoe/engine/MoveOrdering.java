@@ -0,0 +1,159 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+import java.util.Arrays;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+//orders the moves of a node: the table move first, then by history, killer moves of the ply and a prior
+//from the distance to the center and the lines still open through the cell
+final class MoveOrdering {
+    private static final int KILLER_SLOTS = 2;
+    private static final int TABLE_MOVE_SCORE = Integer.MAX_VALUE;
+    //killers only get a bonus, putting them first made the paranoid search with three players worse
+    private static final int KILLER_BONUS = 64;
+    private static final int HISTORY_LIMIT = 1 << 24;
+    private int[] killers = new int[0];
+    private int[] history = new int[0];
+    private int[][] moves = new int[0][];
+    private int[][] scores = new int[0][];
+    private int[] centerPriors = new int[0];
+    private int size;
+    private int playerCount;
+
+    void reset() {
+        Arrays.fill(killers, NO_MOVE);
+        Arrays.fill(history, 0);
+    }
+
+    //fills the moves of the ply, nextMove picks them one at a time as most nodes are cut after a few moves
+    int generateMoves(final MutableBoard board, final int ply, final int tableMove) {
+        ensureCapacity(board, ply);
+        final int[] plyMoves = moves[ply];
+        final int[] plyScores = scores[ply];
+        final int player = board.getPlayerToMove();
+        final int cellCount = board.getCellCount();
+
+        int moveCount = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (board.isOccupied(cell)) {
+                continue;
+            }
+
+            plyMoves[moveCount] = cell;
+            plyScores[moveCount] = score(board, ply, player, cell, tableMove);
+            moveCount++;
+        }
+        return moveCount;
+    }
+
+    int nextMove(final int ply, final int index, final int moveCount) {
+        final int[] plyMoves = moves[ply];
+        final int[] plyScores = scores[ply];
+        int best = index;
+        for (int candidate = index + 1; candidate < moveCount; candidate++) {
+            if (plyScores[candidate] > plyScores[best]) {
+                best = candidate;
+            }
+        }
+
+        swap(plyMoves, index, best);
+        swap(plyScores, index, best);
+        return plyMoves[index];
+    }
+
+    void recordCutoff(final MutableBoard board, final int ply, final int cell, final int depth) {
+        final int killerIndex = ply * KILLER_SLOTS;
+        if (killers[killerIndex] != cell) {
+            killers[killerIndex + 1] = killers[killerIndex];
+            killers[killerIndex] = cell;
+        }
+
+        final int player = board.getPlayerToMove();
+        final int historyIndex = player * board.getCellCount() + cell;
+        history[historyIndex] += depth * depth;
+        if (history[historyIndex] > HISTORY_LIMIT) {
+            ageHistory(player, board.getCellCount());
+        }
+    }
+
+    private int score(final MutableBoard board, final int ply, final int player, final int cell, final int tableMove) {
+        if (cell == tableMove) {
+            return TABLE_MOVE_SCORE;
+        }
+
+        int score = history[player * board.getCellCount() + cell] + centerPriors[cell] + linePotential(board, cell);
+        final int killerIndex = ply * KILLER_SLOTS;
+        for (int slot = 0; slot < KILLER_SLOTS; slot++) {
+            if (killers[killerIndex + slot] == cell) {
+                score += KILLER_BONUS >> slot;
+            }
+        }
+        return score;
+    }
+
+    //open lines are worth more the more marks they have, to extend own lines and block the other players
+    private static int linePotential(final MutableBoard board, final int cell) {
+        int potential = 0;
+        for (int index = 0; index < board.getCellLineCount(cell); index++) {
+            final int line = board.getCellLine(cell, index);
+            if (board.getLineOwnerCount(line) <= 1) {
+                int markCount = 0;
+                for (int player = 0; player < board.getPlayerCount(); player++) {
+                    markCount += board.getLineMarkCount(line, player);
+                }
+                potential += 1 << markCount;
+            }
+        }
+        return potential;
+    }
+
+    private void ageHistory(final int player, final int cellCount) {
+        for (int cell = 0; cell < cellCount; cell++) {
+            history[player * cellCount + cell] /= 2;
+        }
+    }
+
+    private void ensureCapacity(final MutableBoard board, final int ply) {
+        if (board.getSize() != size || board.getPlayerCount() != playerCount) {
+            size = board.getSize();
+            playerCount = board.getPlayerCount();
+            history = new int[playerCount * board.getCellCount()];
+            centerPriors = centerPriors(size);
+            moves = new int[0][];
+            scores = new int[0][];
+            killers = new int[0];
+        }
+        if (ply >= moves.length) {
+            final int plyCount = Math.max(ply + 1, board.getCellCount() + 1);
+            final int previousKillers = killers.length;
+            moves = Arrays.copyOf(moves, plyCount);
+            scores = Arrays.copyOf(scores, plyCount);
+            killers = Arrays.copyOf(killers, plyCount * KILLER_SLOTS);
+            Arrays.fill(killers, previousKillers, killers.length, NO_MOVE);
+            for (int index = 0; index < plyCount; index++) {
+                if (moves[index] == null) {
+                    moves[index] = new int[board.getCellCount()];
+                    scores[index] = new int[board.getCellCount()];
+                }
+            }
+        }
+    }
+
+    //the center order as a score, the first cell of the order gets the highest one
+    private static int[] centerPriors(final int size) {
+        final int[] cellOrder = MinimaxSearch.cellOrder(size);
+        final int[] priors = new int[cellOrder.length];
+        for (int index = 0; index < cellOrder.length; index++) {
+            priors[cellOrder[index]] = cellOrder.length - index;
+        }
+        return priors;
+    }
+
+    private static void swap(final int[] values, final int first, final int second) {
+        final int value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+}
@@ -0,0 +1,79 @@
+package tictactoe.engine;
+
+import tictactoe.model.BoardSymmetry;
+import tictactoe.model.MutableBoard;
+import tictactoe.model.ZobristKeys;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class OpeningBook {
+    static final int MAGIC = 0x54545442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 3 * Integer.BYTES;
+    static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    private final MappedByteBuffer buffer;
+    private final int entryCount;
+
+    private OpeningBook(final MappedByteBuffer buffer, final int entryCount) {
+        this.buffer = buffer;
+        this.entryCount = entryCount;
+    }
+
+    public static Optional<OpeningBook> load(final Path bookFile) {
+        try (final FileChannel channel = FileChannel.open(bookFile, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() >= HEADER_BYTES && buffer.getInt(0) == MAGIC && buffer.getInt(Integer.BYTES) == VERSION) {
+                final int entryCount = buffer.getInt(2 * Integer.BYTES);
+                if (buffer.capacity() == HEADER_BYTES + (long) entryCount * ENTRY_BYTES) {
+                    return Optional.of(new OpeningBook(buffer, entryCount));
+                }
+            }
+
+            System.out.println();
+            System.err.printf("Opening book file '%s' is corrupt.%n", bookFile);
+        } catch (final IOException exception) {
+            System.out.println();
+            System.err.printf("An exception occurred while trying to read opening book file '%s'.%n", bookFile);
+        }
+
+        return Optional.empty();
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    public int findMove(final MutableBoard board) {
+        final int symmetry = board.getCanonicalSymmetry();
+        final long key = bookKey(board, symmetry);
+
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final long middleKey = buffer.getLong(HEADER_BYTES + middle * ENTRY_BYTES);
+            if (middleKey < key) {
+                low = middle + 1;
+            } else if (middleKey > key) {
+                high = middle - 1;
+            } else {
+                final int move = buffer.getInt(HEADER_BYTES + middle * ENTRY_BYTES + Long.BYTES);
+                return BoardSymmetry.transform(board.getSize(), BoardSymmetry.inverse(symmetry), move);
+            }
+        }
+
+        return NO_MOVE;
+    }
+
+    //marks aren't part of the key, positions only depend on the turn order of the players
+    static long bookKey(final MutableBoard board, final int symmetry) {
+        return board.getSymmetryKey(symmetry) ^ ZobristKeys.playerKey(board.getPlayerToMove());
+    }
+}
@@ -0,0 +1,137 @@
+package tictactoe.engine;
+
+import tictactoe.model.BoardSymmetry;
+import tictactoe.model.GameConfiguration;
+import tictactoe.model.MutableBoard;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static tictactoe.engine.OpeningBook.ENTRY_BYTES;
+import static tictactoe.engine.OpeningBook.HEADER_BYTES;
+import static tictactoe.engine.OpeningBook.MAGIC;
+import static tictactoe.engine.OpeningBook.VERSION;
+
+public class OpeningBookGenerator {
+    private static final String DEFAULT_BOOK_FILE = "opening.book";
+    private static final int DEFAULT_MIN_SIZE = 3;
+    private static final int DEFAULT_MAX_SIZE = 4;
+    private static final int DEFAULT_PLIES = 3;
+    private static final long DEFAULT_MILLIS_PER_POSITION = 60_000;
+    private final int playerCount;
+    private final int plies;
+    private final long millisPerPosition;
+
+    public OpeningBookGenerator(final int playerCount, final int plies, final long millisPerPosition) {
+        if (playerCount < 1 || plies < 1 || millisPerPosition <= 0) {
+            throw new IllegalArgumentException("Invalid opening book parameters.");
+        }
+        this.playerCount = playerCount;
+        this.plies = plies;
+        this.millisPerPosition = millisPerPosition;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Path bookFile = Paths.get(args.length > 0 ? args[0] : DEFAULT_BOOK_FILE);
+        final int minSize = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MIN_SIZE;
+        final int maxSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_MAX_SIZE;
+        final int plies = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_PLIES;
+        final long millisPerPosition = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_MILLIS_PER_POSITION;
+
+        final OpeningBookGenerator generator = new OpeningBookGenerator(GameConfiguration.NUMBER_OF_PLAYERS, plies, millisPerPosition);
+        final int entryCount = generator.generate(bookFile, minSize, maxSize);
+
+        System.out.printf("Opening book '%s' written with %d positions for sizes %d-%d.%n", bookFile, entryCount, minSize, maxSize);
+    }
+
+    public int generate(final Path bookFile, final int minSize, final int maxSize) throws IOException {
+        final Map<Long, Integer> entries = new TreeMap<>();
+        for (int size = minSize; size <= maxSize; size++) {
+            addOpenings(size, entries);
+        }
+
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(bookFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(entries.size());
+            for (final Map.Entry<Long, Integer> entry : entries.entrySet()) {
+                output.writeLong(entry.getKey());
+                output.writeInt(entry.getValue());
+            }
+        }
+
+        final long expectedBytes = HEADER_BYTES + (long) entries.size() * ENTRY_BYTES;
+        if (Files.size(bookFile) != expectedBytes) {
+            throw new IOException("Opening book file was not completely written.");
+        }
+        return entries.size();
+    }
+
+    //positions are expanded ply by ply and only one of each set of symmetric positions is solved
+    private void addOpenings(final int size, final Map<Long, Integer> entries) {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch();
+        final Set<Long> visited = new HashSet<>();
+        List<int[]> openings = new ArrayList<>();
+        openings.add(new int[0]);
+
+        for (int ply = 0; ply < plies; ply++) {
+            final List<int[]> nextOpenings = new ArrayList<>();
+            for (final int[] opening : openings) {
+                final MutableBoard board = createBoard(size, opening);
+                final int symmetry = board.getCanonicalSymmetry();
+                final long key = OpeningBook.bookKey(board, symmetry);
+                if (board.isGameOver() || !visited.add(key)) {
+                    continue;
+                }
+
+                final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millisPerPosition);
+                final SearchResult result = minimaxSearch.search(board, deadlineNanos);
+                if (!isSolved(board, result)) {
+                    throw new IllegalStateException("Opening position of size " + size + " after " + opening.length
+                                                    + " moves was not solved within " + millisPerPosition
+                                                    + " ms, give each position more time or fewer plies.");
+                }
+                entries.put(key, BoardSymmetry.transform(size, symmetry, result.getBestMove()));
+
+                for (int cell = 0; cell < size * size; cell++) {
+                    if (!board.isOccupied(cell)) {
+                        final int[] nextOpening = Arrays.copyOf(opening, opening.length + 1);
+                        nextOpening[opening.length] = cell;
+                        nextOpenings.add(nextOpening);
+                    }
+                }
+            }
+            openings = nextOpenings;
+        }
+    }
+
+    //the book only holds perfect moves: the search reached the end of every line of play or found a forced result
+    private static boolean isSolved(final MutableBoard board, final SearchResult result) {
+        return result.getDepth() >= board.getEmptyCount() || Math.abs(result.getScore()) > MinimaxSearch.WIN_SCORE_THRESHOLD;
+    }
+
+    private MutableBoard createBoard(final int size, final int[] opening) {
+        final char[] marks = new char[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            marks[player] = (char) ('1' + player);
+        }
+
+        final MutableBoard board = new MutableBoard(size, marks);
+        for (final int cell : opening) {
+            board.makeMove(cell);
+        }
+        return board;
+    }
+}
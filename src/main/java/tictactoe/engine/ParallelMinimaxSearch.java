@@ -0,0 +1,129 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelMinimaxSearch extends MinimaxSearch {
+    private final ForkJoinPool pool;
+
+    public ParallelMinimaxSearch(final int parallelism) {
+        this(parallelism, Integer.MAX_VALUE, DEFAULT_TABLE_MEGABYTES);
+    }
+
+    public ParallelMinimaxSearch(final int parallelism, final int maxDepth, final int tableMegabytes) {
+        super(maxDepth, tableMegabytes);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be at least 1.");
+        }
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    //the workers need exact scores to break ties like the single threaded search, so the window is always the whole one
+    @Override
+    boolean usesAspirationWindows() {
+        return false;
+    }
+
+    //the first root move is searched alone to get a bound, the other ones are split between the workers
+    @Override
+    SearchResult searchRoot(final MutableBoard board, final int depth, final int alpha, final int beta) {
+        final int[] rootMoves = rootMoves(board, depth);
+        final int[] scores = new int[rootMoves.length];
+        final int[] alphas = new int[rootMoves.length];
+        alphas[0] = -INFINITY;
+        scores[0] = searchMove(board, rootMoves[0], depth, alphas[0]);
+        if (isAborted()) {
+            return null;
+        }
+
+        final AtomicInteger bestScore = new AtomicInteger(scores[0]);
+        final List<Callable<MinimaxSearch>> tasks = new ArrayList<>();
+        for (int index = 1; index < rootMoves.length; index++) {
+            final int moveIndex = index;
+            tasks.add(() -> searchMoveInWorker(board, rootMoves[moveIndex], depth, bestScore, scores, alphas, moveIndex));
+        }
+
+        for (final Future<MinimaxSearch> future : pool.invokeAll(tasks)) {
+            final MinimaxSearch worker = getWorker(future);
+            addNodes(worker.getNodes());
+            if (worker.isAborted()) {
+                abort();
+            }
+        }
+        if (isAborted()) {
+            return null;
+        }
+
+        final int bestIndex = bestIndex(board, depth, rootMoves, scores, alphas);
+        if (isAborted()) {
+            return null;
+        }
+
+        storeRootResult(board, depth, rootMoves[bestIndex], scores[bestIndex]);
+        return new SearchResult(rootMoves[bestIndex], scores[bestIndex], depth, getNodes());
+    }
+
+    private MinimaxSearch searchMoveInWorker(final MutableBoard board, final int cell, final int depth, final AtomicInteger bestScore,
+                                             final int[] scores, final int[] alphas, final int moveIndex) {
+        final MinimaxSearch worker = createWorker();
+        final MutableBoard workerBoard = new MutableBoard(board);
+        worker.startSearch(workerBoard, getDeadlineNanos());
+
+        alphas[moveIndex] = bestScore.get();
+        final int score = worker.searchMove(workerBoard, cell, depth, alphas[moveIndex]);
+        if (!worker.isAborted()) {
+            scores[moveIndex] = score;
+            bestScore.accumulateAndGet(score, Math::max);
+        }
+        return worker;
+    }
+
+    //ties go to the cell nearest to the center like in the single threaded search, a move that only got
+    //a bound equal to the best score is searched again to know if it really reaches it
+    private int bestIndex(final MutableBoard board, final int depth, final int[] rootMoves, final int[] scores, final int[] alphas) {
+        final int[] cellRanks = cellRanks(board.getSize());
+        int bestScore = scores[0];
+        for (int index = 1; index < rootMoves.length; index++) {
+            bestScore = Math.max(bestScore, scores[index]);
+        }
+
+        int bestIndex = 0;
+        for (int index = 0; index < rootMoves.length; index++) {
+            if (scores[index] != bestScore || scores[bestIndex] == bestScore
+                                              && cellRanks[rootMoves[index]] > cellRanks[rootMoves[bestIndex]]) {
+                continue;
+            }
+            if (scores[index] > alphas[index] || searchMove(board, rootMoves[index], depth, bestScore - 1) >= bestScore) {
+                bestIndex = index;
+            }
+        }
+        return bestIndex;
+    }
+
+    private static MinimaxSearch getWorker(final Future<MinimaxSearch> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search was interrupted.", exception);
+        } catch (final ExecutionException exception) {
+            throw new IllegalStateException("Search worker failed.", exception.getCause());
+        }
+    }
+}
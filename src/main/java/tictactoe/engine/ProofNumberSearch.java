@@ -0,0 +1,218 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+import tictactoe.model.ZobristKeys;
+
+import java.util.concurrent.TimeUnit;
+
+import static tictactoe.engine.ProofTable.NO_SLOT;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//depth first proof number search: proves whether the player to move can force a win against all the other players,
+//the proof and disproof numbers live only in the fixed size table, so a lost entry just gets worked out again
+public class ProofNumberSearch {
+    public static final int DEFAULT_TABLE_MEGABYTES = 16;
+    static final int INFINITY = Integer.MAX_VALUE / 2;
+    //the boards keep the marks of at most three players
+    private static final String MARKS = "XOA";
+    private static final int DEFAULT_WIN_LENGTH = 4;
+    private static final int DEFAULT_SIZE = 5;
+    private static final long DEFAULT_NODE_LIMIT = 10_000_000;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private final ProofTable table;
+    private final long nodeLimit;
+    private int[][] moves = new int[0][];
+    private long nodes;
+    private long deadlineNanos;
+    private boolean aborted;
+    private int attacker;
+    private long attackerKey;
+
+    public ProofNumberSearch(final long nodeLimit) {
+        this(nodeLimit, DEFAULT_TABLE_MEGABYTES);
+    }
+
+    public ProofNumberSearch(final long nodeLimit, final int tableMegabytes) {
+        if (nodeLimit < 1) {
+            throw new IllegalArgumentException("Proof search node limit should be positive.");
+        }
+        this.nodeLimit = nodeLimit;
+        this.table = new ProofTable(tableMegabytes);
+    }
+
+    //size, win length, players, node limit, then the cells already played in turn order
+    public static void main(final String[] args) {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        final int winLength = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_WIN_LENGTH;
+        final int playerCount = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        final long nodeLimit = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_NODE_LIMIT;
+        if (playerCount < 1 || playerCount > MARKS.length()) {
+            throw new IllegalArgumentException("Proof search analyzes games of 1-" + MARKS.length() + " players, not " + playerCount + ".");
+        }
+
+        final MutableBoard board = new MutableBoard(size, winLength, MARKS.substring(0, playerCount).toCharArray());
+        for (int index = 4; index < args.length; index++) {
+            board.makeMove(Integer.parseInt(args[index]));
+        }
+
+        final long start = System.nanoTime();
+        final ProofResult result = new ProofNumberSearch(nodeLimit).prove(board, Long.MAX_VALUE);
+        final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        if (result.isProven()) {
+            System.out.printf("Player %c wins by force starting with cell %d, proven with %d nodes in %d ms.%n",
+                              board.getMark(board.getPlayerToMove()), result.getWinningMove(), result.getNodes(), millis);
+        } else if (result.getStatus() == ProofResult.Status.DISPROVEN) {
+            System.out.printf("Player %c has no forced win, disproven with %d nodes in %d ms.%n",
+                              board.getMark(board.getPlayerToMove()), result.getNodes(), millis);
+        } else {
+            System.out.printf("No proof found within %d nodes in %d ms.%n", result.getNodes(), millis);
+        }
+    }
+
+    public void clear() {
+        table.clear();
+    }
+
+    //the table is kept between proofs, the entries don't depend on the game and include the attacking player
+    public ProofResult prove(final MutableBoard board, final long deadlineNanos) {
+        if (board.isGameOver()) {
+            throw new IllegalArgumentException("Proof search needs a game that isn't over.");
+        }
+
+        this.nodes = 0;
+        this.deadlineNanos = deadlineNanos;
+        this.aborted = false;
+        this.attacker = board.getPlayerToMove();
+        this.attackerKey = ZobristKeys.playerKey(attacker);
+        if (moves.length < board.getCellCount() + 1) {
+            moves = new int[board.getCellCount() + 1][board.getCellCount()];
+        }
+
+        search(board, 0, INFINITY, INFINITY);
+
+        final int slot = table.find(board.getZobristKey() ^ attackerKey);
+        if (slot != NO_SLOT && table.getProof(slot) == 0) {
+            return new ProofResult(ProofResult.Status.PROVEN, table.getMove(slot), nodes);
+        }
+        if (slot != NO_SLOT && table.getDisproof(slot) == 0) {
+            return new ProofResult(ProofResult.Status.DISPROVEN, NO_MOVE, nodes);
+        }
+        return new ProofResult(ProofResult.Status.UNKNOWN, NO_MOVE, nodes);
+    }
+
+    //the attacker's nodes are proven by one proven child, the other players' nodes need all children proven
+    private void search(final MutableBoard board, final int ply, final int proofThreshold, final int disproofThreshold) {
+        nodes++;
+        if (nodes >= nodeLimit || nodes % TIME_CHECK_INTERVAL == 0 && System.nanoTime() >= deadlineNanos) {
+            aborted = true;
+            return;
+        }
+
+        final long key = board.getZobristKey() ^ attackerKey;
+        final int player = board.getPlayerToMove();
+        final boolean attacking = player == attacker;
+        final int winner = board.getWinner();
+        if (winner != NO_PLAYER || board.isGameOver()) {
+            storeSolved(key, winner == attacker, NO_MOVE);
+            return;
+        }
+        //a player to move with a line one mark short of a win takes it
+        final int winningMove = TacticalAnalyzer.findWinningMove(board, player);
+        if (winningMove != NO_MOVE) {
+            storeSolved(key, attacking, winningMove);
+            return;
+        }
+
+        final int[] children = moves[ply];
+        final int childCount = generateMoves(board, player, children);
+        final int size = board.getSize();
+        while (true) {
+            int proof = attacking ? INFINITY : 0;
+            int disproof = attacking ? 0 : INFINITY;
+            int bestIndex = 0;
+            int bestNumber = INFINITY;
+            int bestChildProof = INFINITY;
+            int bestChildDisproof = INFINITY;
+            int secondNumber = INFINITY;
+            for (int index = 0; index < childCount; index++) {
+                final int slot = table.find(key ^ ZobristKeys.cellKey(size, children[index], player));
+                final int childProof = slot != NO_SLOT ? table.getProof(slot) : 1;
+                final int childDisproof = slot != NO_SLOT ? table.getDisproof(slot) : 1;
+
+                //the attacker follows the child closest to a proof, the others the one closest to a disproof
+                final int number = attacking ? childProof : childDisproof;
+                if (number < bestNumber) {
+                    secondNumber = bestNumber;
+                    bestNumber = number;
+                    bestIndex = index;
+                    bestChildProof = childProof;
+                    bestChildDisproof = childDisproof;
+                } else if (number < secondNumber) {
+                    secondNumber = number;
+                }
+
+                if (attacking) {
+                    proof = Math.min(proof, childProof);
+                    disproof = Math.min(INFINITY, disproof + childDisproof);
+                } else {
+                    proof = Math.min(INFINITY, proof + childProof);
+                    disproof = Math.min(disproof, childDisproof);
+                }
+            }
+
+            table.store(key, proof, disproof, children[bestIndex]);
+            if (proof >= proofThreshold || disproof >= disproofThreshold || aborted) {
+                return;
+            }
+
+            final int childProofThreshold;
+            final int childDisproofThreshold;
+            if (attacking) {
+                childProofThreshold = Math.min(proofThreshold, secondNumber + 1);
+                childDisproofThreshold = disproofThreshold - disproof + bestChildDisproof;
+            } else {
+                childProofThreshold = proofThreshold - proof + bestChildProof;
+                childDisproofThreshold = Math.min(disproofThreshold, secondNumber + 1);
+            }
+
+            board.makeMove(children[bestIndex]);
+            search(board, ply + 1, childProofThreshold, childDisproofThreshold);
+            board.undoMove();
+        }
+    }
+
+    //a threat has to be blocked by the player to move when its owner moves before the attacker's next turn,
+    //any other move loses at once, so only the blocking move is looked at
+    private int generateMoves(final MutableBoard board, final int player, final int[] children) {
+        final int playerCount = board.getPlayerCount();
+        if (player == attacker) {
+            for (int offset = 1; offset < playerCount; offset++) {
+                final int blockingMove = TacticalAnalyzer.findWinningMove(board, (player + offset) % playerCount);
+                if (blockingMove != NO_MOVE) {
+                    children[0] = blockingMove;
+                    return 1;
+                }
+            }
+        } else if ((player + 1) % playerCount == attacker) {
+            final int blockingMove = TacticalAnalyzer.findWinningMove(board, attacker);
+            if (blockingMove != NO_MOVE) {
+                children[0] = blockingMove;
+                return 1;
+            }
+        }
+
+        int childCount = 0;
+        for (final int cell : MinimaxSearch.cellOrder(board.getSize())) {
+            if (!board.isOccupied(cell)) {
+                children[childCount++] = cell;
+            }
+        }
+        return childCount;
+    }
+
+    private void storeSolved(final long key, final boolean proven, final int move) {
+        table.store(key, proven ? 0 : INFINITY, proven ? INFINITY : 0, move);
+    }
+}
@@ -0,0 +1,45 @@
+package tictactoe.engine;
+
+public class ProofResult {
+    private final Status status;
+    private final int winningMove;
+    private final long nodes;
+
+    public ProofResult(final Status status, final int winningMove, final long nodes) {
+        this.status = status;
+        this.winningMove = winningMove;
+        this.nodes = nodes;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isProven() {
+        return status == Status.PROVEN;
+    }
+
+    //the first move of the forced win, NO_MOVE unless the win is proven
+    public int getWinningMove() {
+        return winningMove;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    @Override
+    public String toString() {
+        return "ProofResult{" +
+                "status=" + status +
+                ", winningMove=" + winningMove +
+                ", nodes=" + nodes +
+                '}';
+    }
+
+    public enum Status {
+        PROVEN,
+        DISPROVEN,
+        UNKNOWN
+    }
+}
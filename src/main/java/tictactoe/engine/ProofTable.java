@@ -0,0 +1,79 @@
+package tictactoe.engine;
+
+import java.util.Arrays;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+//proof and disproof numbers of the positions, the size is fixed so the proof search never grows past it
+final class ProofTable {
+    static final int NO_SLOT = -1;
+    private static final int BYTES_PER_ENTRY = Long.BYTES + 2 * Integer.BYTES + Byte.BYTES;
+    private static final int BUCKET_SIZE = 2;
+    private final long[] keys;
+    private final int[] proofs;
+    private final int[] disproofs;
+    private final byte[] moves;
+    private final int mask;
+
+    ProofTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new IllegalArgumentException("Proof table needs at least 1 MB.");
+        }
+
+        final long maxEntries = (long) sizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY;
+        final int capacity = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 30));
+        this.keys = new long[capacity];
+        this.proofs = new int[capacity];
+        this.disproofs = new int[capacity];
+        this.moves = new byte[capacity];
+        this.mask = capacity - 1;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+    }
+
+    int find(final long key) {
+        final int bucket = (int) key & mask & -BUCKET_SIZE;
+        for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot++) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+        }
+        return NO_SLOT;
+    }
+
+    int getProof(final int slot) {
+        return proofs[slot];
+    }
+
+    int getDisproof(final int slot) {
+        return disproofs[slot];
+    }
+
+    int getMove(final int slot) {
+        return moves[slot] - 1;
+    }
+
+    //an entry of the same position is updated, otherwise an empty or unsolved entry is replaced before a solved one
+    void store(final long key, final int proof, final int disproof, final int move) {
+        final int bucket = (int) key & mask & -BUCKET_SIZE;
+        int slot = find(key);
+        if (slot == NO_SLOT) {
+            slot = keys[bucket] == 0 || isSolved(bucket + 1) && !isSolved(bucket) ? bucket : bucket + 1;
+        }
+
+        keys[slot] = key;
+        proofs[slot] = proof;
+        disproofs[slot] = disproof;
+        moves[slot] = (byte) (move != NO_MOVE ? move + 1 : 0);
+    }
+
+    private boolean isSolved(final int slot) {
+        return keys[slot] != 0 && (proofs[slot] == 0 || disproofs[slot] == 0);
+    }
+}
@@ -0,0 +1,33 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+public interface SearchEngine extends AutoCloseable {
+    //a search given no deadline stops only at its own depth or playout limit
+    long NO_DEADLINE = Long.MAX_VALUE;
+
+    SearchResult search(MutableBoard board, long deadlineNanos);
+
+    default void newGame() {
+    }
+
+    //engines playing random games out report how many of them the last search played per second, the others 0
+    default double getPlayoutsPerSecond() {
+        return 0;
+    }
+
+    //forgets what newGame keeps for later games too
+    default void clear() {
+        newGame();
+    }
+
+    //releases the threads an engine may own, it can't search afterwards
+    @Override
+    default void close() {
+    }
+
+    //engines using random numbers restart them from the seed so a game can be replayed
+    default void newGame(final long seed) {
+        newGame();
+    }
+}
@@ -0,0 +1,63 @@
+package tictactoe.engine;
+
+import tictactoe.model.EngineConfiguration;
+import tictactoe.model.EngineType;
+
+import static tictactoe.engine.MinimaxSearch.DEFAULT_TABLE_MEGABYTES;
+import static tictactoe.model.EngineConfiguration.NO_ENDGAME_SOLVER;
+import static tictactoe.model.EngineConfiguration.NO_PROOF_SEARCH;
+import static tictactoe.model.EngineConfiguration.UNLIMITED_DEPTH;
+
+public final class SearchEngineFactory {
+
+    private SearchEngineFactory() {
+    }
+
+    public static SearchEngine createSearchEngine(final EngineConfiguration engineConfiguration) {
+        if (engineConfiguration.getEngineType() == EngineType.MCTS) {
+            return new MonteCarloSearch(engineConfiguration.getPlayoutLimit());
+        }
+
+        final int parallelism = engineConfiguration.getParallelism();
+        return parallelism > 1 ? new ParallelMinimaxSearch(parallelism, maxDepth(engineConfiguration), DEFAULT_TABLE_MEGABYTES)
+                               : new MinimaxSearch(maxDepth(engineConfiguration));
+    }
+
+    //engines playing many games side by side get smaller tables, each table or tree takes about the given size
+    public static SearchEngine createSearchEngine(final EngineConfiguration engineConfiguration, final int tableMegabytes) {
+        if (engineConfiguration.getEngineType() == EngineType.MCTS) {
+            return new MonteCarloSearch(engineConfiguration.getPlayoutLimit(), MonteCarloSearch.nodeCapacity(tableMegabytes));
+        }
+
+        final int parallelism = engineConfiguration.getParallelism();
+        return parallelism > 1 ? new ParallelMinimaxSearch(parallelism, maxDepth(engineConfiguration), tableMegabytes)
+                               : new MinimaxSearch(maxDepth(engineConfiguration), tableMegabytes);
+    }
+
+    //null when the configuration turns the endgame solver off
+    public static EndgameSolver createEndgameSolver(final EngineConfiguration engineConfiguration) {
+        final int endgameEmptyCells = engineConfiguration.getEndgameEmptyCells();
+        return endgameEmptyCells != NO_ENDGAME_SOLVER ? new EndgameSolver(endgameEmptyCells) : null;
+    }
+
+    public static EndgameSolver createEndgameSolver(final EngineConfiguration engineConfiguration, final int tableMegabytes) {
+        final int endgameEmptyCells = engineConfiguration.getEndgameEmptyCells();
+        return endgameEmptyCells != NO_ENDGAME_SOLVER ? new EndgameSolver(endgameEmptyCells, tableMegabytes) : null;
+    }
+
+    //null when the configuration turns the proof search off
+    public static ProofNumberSearch createProofNumberSearch(final EngineConfiguration engineConfiguration) {
+        final int proofNodeLimit = engineConfiguration.getProofNodeLimit();
+        return proofNodeLimit != NO_PROOF_SEARCH ? new ProofNumberSearch(proofNodeLimit) : null;
+    }
+
+    public static ProofNumberSearch createProofNumberSearch(final EngineConfiguration engineConfiguration, final int tableMegabytes) {
+        final int proofNodeLimit = engineConfiguration.getProofNodeLimit();
+        return proofNodeLimit != NO_PROOF_SEARCH ? new ProofNumberSearch(proofNodeLimit, tableMegabytes) : null;
+    }
+
+    private static int maxDepth(final EngineConfiguration engineConfiguration) {
+        final int searchDepth = engineConfiguration.getSearchDepth();
+        return searchDepth != UNLIMITED_DEPTH ? searchDepth : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,57 @@
+package tictactoe.engine;
+
+import java.util.Arrays;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final int[] principalVariation;
+
+    //without a searched line the best move is the whole principal variation
+    public SearchResult(final int bestMove, final int score, final int depth, final long nodes) {
+        this(bestMove, score, depth, nodes, bestMove != NO_MOVE ? new int[] {bestMove} : new int[0]);
+    }
+
+    public SearchResult(final int bestMove, final int score, final int depth, final long nodes, final int[] principalVariation) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.principalVariation = principalVariation.clone();
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public int[] getPrincipalVariation() {
+        return principalVariation.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" +
+                "bestMove=" + bestMove +
+                ", score=" + score +
+                ", depth=" + depth +
+                ", nodes=" + nodes +
+                ", principalVariation=" + Arrays.toString(principalVariation) +
+                '}';
+    }
+}
@@ -0,0 +1,138 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+//values of every reachable position of one board size and player count, one byte per position at its index:
+//two bits for each player with the result of the paranoid game where all the other players play against it
+public class Tablebase {
+    static final int MAGIC = 0x54544442;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES;
+    static final int NOT_REACHABLE = 0;
+    static final int LOSS = 1;
+    static final int DRAW = 2;
+    static final int WIN = 3;
+    static final int VALUE_BITS = 2;
+    private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+    private final MappedByteBuffer buffer;
+    private final TablebaseIndex index;
+
+    private Tablebase(final MappedByteBuffer buffer, final TablebaseIndex index) {
+        this.buffer = buffer;
+        this.index = index;
+    }
+
+    public static Optional<Tablebase> load(final Path tablebaseFile) {
+        try (final FileChannel channel = FileChannel.open(tablebaseFile, StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() >= HEADER_BYTES && buffer.getInt(0) == MAGIC && buffer.getInt(Integer.BYTES) == VERSION) {
+                final Optional<TablebaseIndex> index = createIndex(buffer.getInt(2 * Integer.BYTES), buffer.getInt(3 * Integer.BYTES));
+                final long positionCount = buffer.getLong(4 * Integer.BYTES);
+                if (index.isPresent() && positionCount == index.get().getPositionCount()
+                        && buffer.capacity() == HEADER_BYTES + positionCount) {
+                    return Optional.of(new Tablebase(buffer, index.get()));
+                }
+            }
+
+            System.out.println();
+            System.err.printf("Tablebase file '%s' is corrupt.%n", tablebaseFile);
+        } catch (final IOException exception) {
+            System.out.println();
+            System.err.printf("An exception occurred while trying to read tablebase file '%s'.%n", tablebaseFile);
+        }
+
+        return Optional.empty();
+    }
+
+    public int getSize() {
+        return index.getSize();
+    }
+
+    public int getPlayerCount() {
+        return index.getPlayerCount();
+    }
+
+    //only full line rules are stored, the marks of every player must match the turn order
+    public boolean covers(final MutableBoard board) {
+        return board.getSize() == index.getSize() && board.getWinLength() == index.getSize()
+                && board.getPlayerCount() == index.getPlayerCount();
+    }
+
+    //the best move of the player to move, ties going to the cell nearest to the center like in the searches
+    public int findMove(final MutableBoard board) {
+        final int[] playerMasks = playerMasks(board);
+        if (playerMasks == null || board.isGameOver() || entry(playerMasks, board.getMoveCount()) == NOT_REACHABLE) {
+            return NO_MOVE;
+        }
+
+        final int player = board.getPlayerToMove();
+        final int moveCount = board.getMoveCount() + 1;
+        int bestMove = NO_MOVE;
+        int bestValue = NOT_REACHABLE;
+        for (final int cell : MinimaxSearch.cellOrder(board.getSize())) {
+            if (board.isOccupied(cell)) {
+                continue;
+            }
+
+            playerMasks[player] |= 1 << cell;
+            final int value = value(entry(playerMasks, moveCount), player);
+            playerMasks[player] ^= 1 << cell;
+            if (value > bestValue) {
+                bestValue = value;
+                bestMove = cell;
+            }
+        }
+        return bestMove;
+    }
+
+    //the result the player gets from the position, NOT_REACHABLE when the position can't come up in a game
+    public int getValue(final MutableBoard board, final int player) {
+        final int[] playerMasks = playerMasks(board);
+        return playerMasks != null ? value(entry(playerMasks, board.getMoveCount()), player) : NOT_REACHABLE;
+    }
+
+    static int value(final int entry, final int player) {
+        return (entry >>> (player * VALUE_BITS)) & VALUE_MASK;
+    }
+
+    private int entry(final int[] playerMasks, final int moveCount) {
+        final long position = index.getLayerOffset(moveCount) + index.rank(playerMasks, moveCount);
+        return buffer.get((int) (HEADER_BYTES + position)) & 0xFF;
+    }
+
+    private int[] playerMasks(final MutableBoard board) {
+        if (!covers(board)) {
+            return null;
+        }
+
+        final int[] playerMasks = new int[index.getPlayerCount()];
+        for (int cell = 0; cell < board.getCellCount(); cell++) {
+            if (board.isOccupied(cell)) {
+                playerMasks[board.getPlayerAt(cell)] |= 1 << cell;
+            }
+        }
+        for (int player = 0; player < playerMasks.length; player++) {
+            if (Integer.bitCount(playerMasks[player]) != index.getMarkCount(board.getMoveCount(), player)) {
+                return null;
+            }
+        }
+        return playerMasks;
+    }
+
+    private static Optional<TablebaseIndex> createIndex(final int size, final int playerCount) {
+        try {
+            return Optional.of(new TablebaseIndex(size, playerCount));
+        } catch (final IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package tictactoe.engine;
+
+import tictactoe.model.GameConfiguration;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static tictactoe.engine.Tablebase.DRAW;
+import static tictactoe.engine.Tablebase.HEADER_BYTES;
+import static tictactoe.engine.Tablebase.LOSS;
+import static tictactoe.engine.Tablebase.MAGIC;
+import static tictactoe.engine.Tablebase.NOT_REACHABLE;
+import static tictactoe.engine.Tablebase.VALUE_BITS;
+import static tictactoe.engine.Tablebase.VERSION;
+import static tictactoe.engine.Tablebase.WIN;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//retrograde analysis: a pass from the empty board marks the positions a game can reach, then the values are
+//worked out from the full board back to the empty one, every position of a move count only needs the next one
+public class TablebaseGenerator {
+    private static final String DEFAULT_TABLEBASE_FILE = "tablebase-%d.bin";
+    private static final int DEFAULT_SIZE = 4;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final byte REACHABLE = (byte) 0x80;
+    private final TablebaseIndex index;
+    private final int parallelism;
+
+    public TablebaseGenerator(final int size, final int playerCount, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism should be at least 1.");
+        }
+        this.index = new TablebaseIndex(size, playerCount);
+        this.parallelism = parallelism;
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        final Path tablebaseFile = Paths.get(args.length > 1 ? args[1] : String.format(DEFAULT_TABLEBASE_FILE, size));
+        final int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        final TablebaseGenerator generator = new TablebaseGenerator(size, GameConfiguration.NUMBER_OF_PLAYERS, parallelism);
+        final long reachableCount = generator.generate(tablebaseFile);
+
+        System.out.printf("Tablebase '%s' written with %d reachable positions for size %d.%n", tablebaseFile, reachableCount, size);
+    }
+
+    public long generate(final Path tablebaseFile) throws IOException {
+        final int cellCount = index.getCellCount();
+        final byte[][] layers = new byte[cellCount + 1][];
+        for (int moveCount = 0; moveCount <= cellCount; moveCount++) {
+            layers[moveCount] = new byte[index.getLayerSize(moveCount)];
+        }
+
+        //the pool only lives while the layers are worked out, so no threads are left behind
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            layers[0][0] = REACHABLE;
+            for (int moveCount = 1; moveCount <= cellCount; moveCount++) {
+                final int layer = moveCount;
+                runInParallel(pool, index.getLayerSize(moveCount), (from, to) -> markReachable(layers, layer, from, to));
+            }
+            for (int moveCount = cellCount; moveCount >= 0; moveCount--) {
+                final int layer = moveCount;
+                runInParallel(pool, index.getLayerSize(moveCount), (from, to) -> solve(layers, layer, from, to));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long reachableCount = 0;
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tablebaseFile)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(index.getSize());
+            output.writeInt(index.getPlayerCount());
+            output.writeLong(index.getPositionCount());
+            for (final byte[] layer : layers) {
+                output.write(layer);
+                for (final byte entry : layer) {
+                    reachableCount += entry != NOT_REACHABLE ? 1 : 0;
+                }
+            }
+        }
+
+        if (Files.size(tablebaseFile) != HEADER_BYTES + index.getPositionCount()) {
+            throw new IOException("Tablebase file was not completely written.");
+        }
+        return reachableCount;
+    }
+
+    //a position is reachable when taking back one mark of the last player leads to a reachable game that wasn't over
+    private void markReachable(final byte[][] layers, final int moveCount, final int from, final int to) {
+        final int[] playerMasks = new int[index.getPlayerCount()];
+        final int lastPlayer = index.getPlayerToMove(moveCount - 1);
+        final byte[] parents = layers[moveCount - 1];
+
+        for (int position = from; position < to; position++) {
+            index.unrank(position, moveCount, playerMasks);
+            for (int cells = playerMasks[lastPlayer]; cells != 0; cells &= cells - 1) {
+                final int cell = cells & -cells;
+                playerMasks[lastPlayer] ^= cell;
+                final boolean reachable = parents[index.rank(playerMasks, moveCount - 1)] != NOT_REACHABLE
+                        && !index.isGameOver(playerMasks);
+                playerMasks[lastPlayer] ^= cell;
+                if (reachable) {
+                    layers[moveCount][position] = REACHABLE;
+                    break;
+                }
+            }
+        }
+    }
+
+    private void solve(final byte[][] layers, final int moveCount, final int from, final int to) {
+        final int playerCount = index.getPlayerCount();
+        final int[] playerMasks = new int[playerCount];
+        final int[] values = new int[playerCount];
+        final int player = index.getPlayerToMove(moveCount);
+        final int allCells = (1 << index.getCellCount()) - 1;
+
+        for (int position = from; position < to; position++) {
+            if (layers[moveCount][position] == NOT_REACHABLE) {
+                continue;
+            }
+
+            index.unrank(position, moveCount, playerMasks);
+            if (index.isGameOver(playerMasks)) {
+                final int winner = index.winner(playerMasks);
+                for (int root = 0; root < playerCount; root++) {
+                    values[root] = winner == NO_PLAYER ? DRAW : winner == root ? WIN : LOSS;
+                }
+            } else {
+                //paranoid: the player to move takes its best result, for any other player it is the worst one
+                for (int root = 0; root < playerCount; root++) {
+                    values[root] = root == player ? LOSS : WIN;
+                }
+
+                int occupiedCells = 0;
+                for (final int mask : playerMasks) {
+                    occupiedCells |= mask;
+                }
+                for (int cells = allCells & ~occupiedCells; cells != 0; cells &= cells - 1) {
+                    final int cell = cells & -cells;
+                    playerMasks[player] |= cell;
+                    final int child = layers[moveCount + 1][index.rank(playerMasks, moveCount + 1)] & 0xFF;
+                    playerMasks[player] ^= cell;
+
+                    for (int root = 0; root < playerCount; root++) {
+                        final int value = Tablebase.value(child, root);
+                        values[root] = root == player ? Math.max(values[root], value) : Math.min(values[root], value);
+                    }
+                }
+            }
+
+            int entry = 0;
+            for (int root = 0; root < playerCount; root++) {
+                entry |= values[root] << (root * VALUE_BITS);
+            }
+            layers[moveCount][position] = (byte) entry;
+        }
+    }
+
+    private void runInParallel(final ForkJoinPool pool, final int positionCount, final LayerTask task) {
+        final List<Callable<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < positionCount; from += CHUNK_SIZE) {
+            final int chunkFrom = from;
+            final int chunkTo = Math.min(positionCount, from + CHUNK_SIZE);
+            chunks.add(() -> {
+                task.run(chunkFrom, chunkTo);
+                return null;
+            });
+        }
+
+        for (final Future<Void> future : pool.invokeAll(chunks)) {
+            try {
+                future.get();
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Tablebase generation was interrupted.", exception);
+            } catch (final ExecutionException exception) {
+                throw new IllegalStateException("Tablebase worker failed.", exception.getCause());
+            }
+        }
+    }
+
+    private interface LayerTask {
+        void run(int from, int to);
+    }
+}
@@ -0,0 +1,205 @@
+package tictactoe.engine;
+
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//perfect index of the positions of one board size and player count under full line rules: positions are grouped
+//by move count, and inside a group numbered by the cells of each player, picked in turn among the cells the
+//players before left free, so every position has exactly one index and every index is a possible position
+final class TablebaseIndex {
+    static final int MIN_SIZE = 3;
+    static final int MAX_SIZE = 4;
+    static final int MIN_PLAYERS = 2;
+    static final int MAX_PLAYERS = 3;
+    private final int size;
+    private final int cellCount;
+    private final int playerCount;
+    private final long[][] binomials;
+    private final long[] layerOffsets;
+    private final int[] lineMasks;
+
+    TablebaseIndex(final int size, final int playerCount) {
+        if (size < MIN_SIZE || size > MAX_SIZE || playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Tablebase is only available for sizes " + MIN_SIZE + "-" + MAX_SIZE
+                                               + " with " + MIN_PLAYERS + "-" + MAX_PLAYERS + " players.");
+        }
+        this.size = size;
+        this.cellCount = size * size;
+        this.playerCount = playerCount;
+        this.binomials = binomials(cellCount);
+        this.layerOffsets = new long[cellCount + 2];
+        for (int moveCount = 0; moveCount <= cellCount; moveCount++) {
+            layerOffsets[moveCount + 1] = layerOffsets[moveCount] + computeLayerSize(moveCount);
+        }
+        this.lineMasks = lineMasks(size);
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    int getCellCount() {
+        return cellCount;
+    }
+
+    int getPlayerCount() {
+        return playerCount;
+    }
+
+    long getPositionCount() {
+        return layerOffsets[cellCount + 1];
+    }
+
+    long getLayerOffset(final int moveCount) {
+        return layerOffsets[moveCount];
+    }
+
+    int getLayerSize(final int moveCount) {
+        return (int) (layerOffsets[moveCount + 1] - layerOffsets[moveCount]);
+    }
+
+    int getPlayerToMove(final int moveCount) {
+        return moveCount % playerCount;
+    }
+
+    //player 0 moves first, so the players before the one to move have one mark more
+    int getMarkCount(final int moveCount, final int player) {
+        return (moveCount - player + playerCount - 1) / playerCount;
+    }
+
+    //index of the position inside its move count group, the masks hold one bit per cell for each player
+    int rank(final int[] playerMasks, final int moveCount) {
+        long index = 0;
+        int usedCells = 0;
+        int freeCount = cellCount;
+        for (int player = 0; player < playerCount; player++) {
+            final int markCount = getMarkCount(moveCount, player);
+            index = index * binomials[freeCount][markCount] + combinationRank(playerMasks[player], usedCells);
+            freeCount -= markCount;
+            usedCells |= playerMasks[player];
+        }
+        return (int) index;
+    }
+
+    //the ranks of the players are kept in the masks until the cells of the players before are known
+    void unrank(final int index, final int moveCount, final int[] playerMasks) {
+        long remaining = index;
+        int freeCount = cellCount - moveCount + getMarkCount(moveCount, playerCount - 1);
+        for (int player = playerCount - 1; player >= 0; player--) {
+            final long combinations = binomials[freeCount][getMarkCount(moveCount, player)];
+            playerMasks[player] = (int) (remaining % combinations);
+            remaining /= combinations;
+            if (player > 0) {
+                freeCount += getMarkCount(moveCount, player - 1);
+            }
+        }
+
+        int usedCells = 0;
+        for (int player = 0; player < playerCount; player++) {
+            playerMasks[player] = combination(playerMasks[player], getMarkCount(moveCount, player), usedCells);
+            usedCells |= playerMasks[player];
+        }
+    }
+
+    int winner(final int[] playerMasks) {
+        for (final int line : lineMasks) {
+            for (int player = 0; player < playerCount; player++) {
+                if ((playerMasks[player] & line) == line) {
+                    return player;
+                }
+            }
+        }
+        return NO_PLAYER;
+    }
+
+    //same rule as the boards: the game ends with a winner or once no line can be completed by a single player
+    boolean isGameOver(final int[] playerMasks) {
+        if (winner(playerMasks) != NO_PLAYER) {
+            return true;
+        }
+
+        for (final int line : lineMasks) {
+            int owners = 0;
+            for (int player = 0; player < playerCount; player++) {
+                if ((playerMasks[player] & line) != 0) {
+                    owners++;
+                }
+            }
+            if (owners <= 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //colex rank of the cells among the ones not used yet
+    private long combinationRank(final int mask, final int usedCells) {
+        long rank = 0;
+        int element = 0;
+        for (int cells = mask; cells != 0; cells &= cells - 1) {
+            final int cell = Integer.numberOfTrailingZeros(cells);
+            final int freeIndex = cell - Integer.bitCount(usedCells & ((1 << cell) - 1));
+            rank += binomials[freeIndex][++element];
+        }
+        return rank;
+    }
+
+    private int combination(final long rank, final int markCount, final int usedCells) {
+        long remaining = rank;
+        int freeIndices = 0;
+        for (int element = markCount; element > 0; element--) {
+            int freeIndex = element - 1;
+            while (binomials[freeIndex + 1][element] <= remaining) {
+                freeIndex++;
+            }
+            remaining -= binomials[freeIndex][element];
+            freeIndices |= 1 << freeIndex;
+        }
+
+        int mask = 0;
+        int freeIndex = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if ((usedCells & (1 << cell)) == 0) {
+                if ((freeIndices & (1 << freeIndex)) != 0) {
+                    mask |= 1 << cell;
+                }
+                freeIndex++;
+            }
+        }
+        return mask;
+    }
+
+    private long computeLayerSize(final int moveCount) {
+        long layerSize = 1;
+        int freeCount = cellCount;
+        for (int player = 0; player < playerCount; player++) {
+            final int markCount = getMarkCount(moveCount, player);
+            layerSize *= binomials[freeCount][markCount];
+            freeCount -= markCount;
+        }
+        return layerSize;
+    }
+
+    private static long[][] binomials(final int cellCount) {
+        final long[][] binomials = new long[cellCount + 2][cellCount + 2];
+        for (int n = 0; n <= cellCount + 1; n++) {
+            binomials[n][0] = 1;
+            for (int k = 1; k <= n; k++) {
+                binomials[n][k] = binomials[n - 1][k - 1] + binomials[n - 1][k];
+            }
+        }
+        return binomials;
+    }
+
+    private static int[] lineMasks(final int size) {
+        final int[] lineMasks = new int[2 * size + 2];
+        for (int line = 0; line < size; line++) {
+            for (int index = 0; index < size; index++) {
+                lineMasks[line] |= 1 << (line * size + index);
+                lineMasks[size + line] |= 1 << (index * size + line);
+            }
+            lineMasks[2 * size] |= 1 << (line * size + line);
+            lineMasks[2 * size + 1] |= 1 << (line * size + size - 1 - line);
+        }
+        return lineMasks;
+    }
+}
@@ -0,0 +1,90 @@
+package tictactoe.engine;
+
+import tictactoe.model.MutableBoard;
+
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//finds the moves that don't need a search, the board keeps the threat lines of every player up to date
+//so only those lines and the ones a mark short of a threat are looked at, never the move history
+public final class TacticalAnalyzer {
+    private TacticalAnalyzer() {
+    }
+
+    //winning first, then blocking the players in the order they move, then a move making two threats at once
+    public static int findTacticalMove(final MutableBoard board) {
+        if (board.isGameOver()) {
+            return NO_MOVE;
+        }
+
+        final int player = board.getPlayerToMove();
+        final int winningMove = findWinningMove(board, player);
+        if (winningMove != NO_MOVE) {
+            return winningMove;
+        }
+
+        final int blockingMove = findBlockingMove(board, player);
+        return blockingMove != NO_MOVE ? blockingMove : findForkMove(board, player);
+    }
+
+    public static int findWinningMove(final MutableBoard board, final int player) {
+        return board.getThreatLineCount(player) == 0 ? NO_MOVE : emptyCell(board, board.getThreatLine(player, 0), NO_MOVE);
+    }
+
+    public static int findBlockingMove(final MutableBoard board, final int player) {
+        for (int offset = 1; offset < board.getPlayerCount(); offset++) {
+            final int winningMove = findWinningMove(board, (player + offset) % board.getPlayerCount());
+            if (winningMove != NO_MOVE) {
+                return winningMove;
+            }
+        }
+        return NO_MOVE;
+    }
+
+    //a fork is an empty cell turning two lines into threats that are completed on different cells
+    public static int findForkMove(final MutableBoard board, final int player) {
+        final int forkCount = board.getWinLength() - 2;
+        for (int index = 0; index < board.getPreThreatLineCount(player); index++) {
+            final int line = board.getPreThreatLine(player, index);
+            for (int cellIndex = 0; cellIndex < board.getWinLength(); cellIndex++) {
+                final int candidate = board.getLineCell(line, cellIndex);
+                if (board.getPlayerAt(candidate) == NO_PLAYER && isFork(board, candidate, player, forkCount)) {
+                    return candidate;
+                }
+            }
+        }
+        return NO_MOVE;
+    }
+
+    private static boolean isFork(final MutableBoard board, final int cell, final int player, final int forkCount) {
+        int firstCompletion = NO_MOVE;
+        for (int lineIndex = 0; lineIndex < board.getCellLineCount(cell); lineIndex++) {
+            final int line = board.getCellLine(cell, lineIndex);
+            if (!isOwnedLine(board, line, player, forkCount)) {
+                continue;
+            }
+
+            final int completion = emptyCell(board, line, cell);
+            if (firstCompletion == NO_MOVE) {
+                firstCompletion = completion;
+            } else if (completion != firstCompletion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOwnedLine(final MutableBoard board, final int line, final int player, final int markCount) {
+        return board.getLineOwnerCount(line) == 1 && board.getLineMarkCount(line, player) == markCount;
+    }
+
+    private static int emptyCell(final MutableBoard board, final int line, final int excludedCell) {
+        for (int cellIndex = 0; cellIndex < board.getWinLength(); cellIndex++) {
+            final int cell = board.getLineCell(line, cellIndex);
+            if (cell != excludedCell && board.getPlayerAt(cell) == NO_PLAYER) {
+                return cell;
+            }
+        }
+        return NO_MOVE;
+    }
+}
@@ -0,0 +1,104 @@
+package tictactoe.engine;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final long NO_ENTRY = 0;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    public static final int NO_MOVE = -1;
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int BUCKET_SIZE = 2;
+    private static final int BOUND_BITS = 2;
+    private static final int AGE_BITS = 8;
+    private static final int DEPTH_BITS = 8;
+    private static final int MOVE_BITS = 8;
+    private static final int DEPTH_SHIFT = BOUND_BITS + AGE_BITS;
+    private static final int MOVE_SHIFT = DEPTH_SHIFT + DEPTH_BITS;
+    private static final int SCORE_SHIFT = MOVE_SHIFT + MOVE_BITS;
+    //entries are stored as (key ^ data, data) so a torn write from another thread reads as a miss
+    private final long[] keys;
+    private final long[] data;
+    private final int mask;
+    private int age;
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        if (sizeInMegabytes < 1) {
+            throw new IllegalArgumentException("Transposition table needs at least 1 MB.");
+        }
+
+        final long maxEntries = (long) sizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY;
+        final int capacity = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 30));
+        this.keys = new long[capacity];
+        this.data = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public void newSearch() {
+        age = (age + 1) & ((1 << AGE_BITS) - 1);
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+        age = 0;
+    }
+
+    public long probe(final long key) {
+        final int bucket = (int) key & mask & -BUCKET_SIZE;
+        for (int slot = bucket; slot < bucket + BUCKET_SIZE; slot++) {
+            final long entry = data[slot];
+            if (entry != NO_ENTRY && (keys[slot] ^ entry) == key) {
+                return entry;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    //first slot of the bucket keeps the deepest entry of the current search, the second one is always replaced
+    public void store(final long key, final int score, final int depth, final int bound, final int bestMove) {
+        final int bucket = (int) key & mask & -BUCKET_SIZE;
+        final long entry = pack(score, depth, bound, bestMove, age);
+        final long preferred = data[bucket];
+        final boolean sameKey = (keys[bucket] ^ preferred) == key;
+
+        final int slot = preferred == NO_ENTRY || sameKey || age(preferred) != age || depth >= depth(preferred)
+                ? bucket
+                : bucket + 1;
+        keys[slot] = key ^ entry;
+        data[slot] = entry;
+    }
+
+    public static int score(final long entry) {
+        return (int) (entry >> SCORE_SHIFT);
+    }
+
+    public static int depth(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & ((1 << DEPTH_BITS) - 1);
+    }
+
+    public static int bound(final long entry) {
+        return (int) entry & ((1 << BOUND_BITS) - 1);
+    }
+
+    public static int bestMove(final long entry) {
+        return ((int) (entry >>> MOVE_SHIFT) & ((1 << MOVE_BITS) - 1)) - 1;
+    }
+
+    private static int age(final long entry) {
+        return (int) (entry >>> BOUND_BITS) & ((1 << AGE_BITS) - 1);
+    }
+
+    private static long pack(final int score, final int depth, final int bound, final int bestMove, final int age) {
+        return ((long) score << SCORE_SHIFT)
+                | ((long) (bestMove + 1) << MOVE_SHIFT)
+                | ((long) Math.min(depth, (1 << DEPTH_BITS) - 1) << DEPTH_SHIFT)
+                | ((long) age << BOUND_BITS)
+                | bound;
+    }
+}
@@ -0,0 +1,240 @@
+package tictactoe.model;
+
+import java.util.Arrays;
+
+public class BitBoard extends Board {
+    private static final int NO_MARK = -1;
+    private final BoardLines lines;
+    private final char[] marks;
+    private final long[][] markBits;
+    private final long[] occupied;
+
+    public BitBoard(final int size) {
+        this(size, size);
+    }
+
+    public BitBoard(final int size, final int winLength) {
+        super(size, winLength, null);
+        this.lines = BoardLines.forSize(size, winLength);
+        this.marks = new char[0];
+        this.markBits = new long[0][];
+        this.occupied = new long[lines.getWordCount()];
+    }
+
+    public BitBoard(final Character[][] boardGrid) {
+        this(boardGrid, boardGrid.length);
+    }
+
+    public BitBoard(final Character[][] boardGrid, final int winLength) {
+        super(boardGrid.length, winLength, null);
+        this.lines = BoardLines.forSize(boardGrid.length, winLength);
+
+        char[] gridMarks = new char[0];
+        long[][] gridBits = new long[0][];
+        final long[] gridOccupied = new long[lines.getWordCount()];
+        for (int row = 0; row < boardGrid.length; row++) {
+            for (int col = 0; col < boardGrid.length; col++) {
+                final Character mark = boardGrid[row][col];
+                if (mark == null) {
+                    continue;
+                }
+
+                int markIndex = indexOf(gridMarks, mark);
+                if (markIndex == NO_MARK) {
+                    markIndex = gridMarks.length;
+                    gridMarks = Arrays.copyOf(gridMarks, markIndex + 1);
+                    gridMarks[markIndex] = mark;
+                    gridBits = Arrays.copyOf(gridBits, markIndex + 1);
+                    gridBits[markIndex] = new long[lines.getWordCount()];
+                }
+
+                final int cell = row * boardGrid.length + col;
+                setBit(gridBits[markIndex], cell);
+                setBit(gridOccupied, cell);
+            }
+        }
+
+        this.marks = gridMarks;
+        this.markBits = gridBits;
+        this.occupied = gridOccupied;
+    }
+
+    private BitBoard(final BoardLines lines, final char[] marks, final long[][] markBits, final long[] occupied,
+                     final int liveLineCount) {
+        super(lines.getSize(), lines.getWinLength(), null, liveLineCount);
+        this.lines = lines;
+        this.marks = marks;
+        this.markBits = markBits;
+        this.occupied = occupied;
+    }
+
+    @Override
+    public Character[][] getBoardGrid() {
+        final int size = getSize();
+        final Character[][] boardGrid = new Character[size][size];
+        for (int markIndex = 0; markIndex < marks.length; markIndex++) {
+            for (int cell = 0; cell < size * size; cell++) {
+                if (isBitSet(markBits[markIndex], cell)) {
+                    boardGrid[cell / size][cell % size] = marks[markIndex];
+                }
+            }
+        }
+
+        return boardGrid;
+    }
+
+    @Override
+    public CellSet getAvailablePositions() {
+        final int size = getSize();
+        final long[] bits = new long[occupied.length];
+        for (int word = 0; word < bits.length; word++) {
+            bits[word] = ~occupied[word];
+        }
+        //cells past the end of the board aren't positions
+        final int lastBits = size * size % Long.SIZE;
+        if (lastBits != 0) {
+            bits[bits.length - 1] &= (1L << lastBits) - 1;
+        }
+
+        return new CellSet(size, bits);
+    }
+
+    @Override
+    public boolean isPositionOccupied(final int row, final int col) {
+        return isPositionValid(row, col) && isBitSet(occupied, row * getSize() + col);
+    }
+
+    @Override
+    public boolean isCellOccupied(final int cell) {
+        return cell >= 0 && cell < getSize() * getSize() && isBitSet(occupied, cell);
+    }
+
+    @Override
+    public BitBoard placeMark(final int cell, final char mark) {
+        return (BitBoard) super.placeMark(cell, mark);
+    }
+
+    @Override
+    public BitBoard placeMark(final int row, final int col, final char mark) {
+        if (!isPositionValid(row, col) || isPositionOccupied(row, col)) {
+            throw new IllegalArgumentException("Position is not available to place a mark.");
+        }
+
+        final int cell = row * getSize() + col;
+        int markIndex = indexOf(marks, mark);
+        char[] modifiedMarks = marks;
+        long[][] modifiedBits = Arrays.copyOf(markBits, markBits.length + (markIndex == NO_MARK ? 1 : 0));
+        if (markIndex == NO_MARK) {
+            markIndex = marks.length;
+            modifiedMarks = Arrays.copyOf(marks, markIndex + 1);
+            modifiedMarks[markIndex] = mark;
+            modifiedBits[markIndex] = new long[lines.getWordCount()];
+        } else {
+            modifiedBits[markIndex] = markBits[markIndex].clone();
+        }
+
+        final int modifiedLiveLineCount = liveLineCountAfter(cell, mark);
+        final long[] modifiedOccupied = occupied.clone();
+        setBit(modifiedBits[markIndex], cell);
+        setBit(modifiedOccupied, cell);
+
+        return new BitBoard(lines, modifiedMarks, modifiedBits, modifiedOccupied, modifiedLiveLineCount);
+    }
+
+    @Override
+    public boolean checkForAWinner(final BoardPosition boardPosition) {
+        final int row = boardPosition.getRow();
+        final int col = boardPosition.getCol();
+        if (!isPositionValid(row, col)) {
+            return false;
+        }
+
+        final int cell = row * getSize() + col;
+        final int markIndex = markIndexAt(cell);
+        if (markIndex == NO_MARK) {
+            return false;
+        }
+
+        final long[] bits = markBits[markIndex];
+        for (final int line : lines.getCellLines(cell)) {
+            if (containsAll(bits, lines.getLineMask(line))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BitBoard)) {
+            return false;
+        }
+
+        final BitBoard bitBoard = (BitBoard) o;
+        if (getSize() != bitBoard.getSize() || getWinLength() != bitBoard.getWinLength() || !Arrays.equals(occupied, bitBoard.occupied)) {
+            return false;
+        }
+
+        for (int markIndex = 0; markIndex < marks.length; markIndex++) {
+            final int otherIndex = indexOf(bitBoard.marks, marks[markIndex]);
+            if (otherIndex == NO_MARK || !Arrays.equals(markBits[markIndex], bitBoard.markBits[otherIndex])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = getSize();
+        result = 31 * result + getWinLength();
+        result = 31 * result + Arrays.hashCode(occupied);
+        return result;
+    }
+
+    @Override
+    char getMarkAt(final int row, final int col) {
+        final int markIndex = markIndexAt(row * getSize() + col);
+        return markIndex != NO_MARK ? marks[markIndex] : ' ';
+    }
+
+    private int markIndexAt(final int cell) {
+        if (isBitSet(occupied, cell)) {
+            for (int markIndex = 0; markIndex < marks.length; markIndex++) {
+                if (isBitSet(markBits[markIndex], cell)) {
+                    return markIndex;
+                }
+            }
+        }
+        return NO_MARK;
+    }
+
+    private static int indexOf(final char[] marks, final char mark) {
+        for (int markIndex = 0; markIndex < marks.length; markIndex++) {
+            if (marks[markIndex] == mark) {
+                return markIndex;
+            }
+        }
+        return NO_MARK;
+    }
+
+    private static boolean containsAll(final long[] bits, final long[] mask) {
+        for (int word = 0; word < mask.length; word++) {
+            if ((bits[word] & mask[word]) != mask[word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBitSet(final long[] bits, final int cell) {
+        return (bits[cell / Long.SIZE] & (1L << cell)) != 0;
+    }
+
+    private static void setBit(final long[] bits, final int cell) {
+        bits[cell / Long.SIZE] |= 1L << cell;
+    }
+}
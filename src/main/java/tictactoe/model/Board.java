@@ -1,48 +1,74 @@
 package tictactoe.model;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.stream.IntStream;
 
 import static java.util.Collections.nCopies;
 
 public class Board {
-    private static final int MIN_BOARD_SIZE = 3;
+    static final int MIN_BOARD_SIZE = 3;
+    public static final int MIN_WIN_LENGTH = 3;
+    private static final int UNKNOWN_LINE_COUNT = -1;
+    private static final char MIXED_LINE = '\0';
+    //row, column, diagonal and anti diagonal steps
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
     private final int size;
+    private final int winLength;
     private final Character[][] boardGrid;
-    private final Set<BoardPosition> availablePositions;
+    private final CellSet availablePositions;
+    private int liveLineCount = UNKNOWN_LINE_COUNT;
 
     public Board(final Character[][] boardGrid) {
-        if (boardGrid.length < MIN_BOARD_SIZE) {
-            throw new IllegalArgumentException("Board size should be greater than " + MIN_BOARD_SIZE);
-        }
-        this.size = boardGrid.length;
-        this.boardGrid = boardGrid;
-        this.availablePositions = buildAvailablePositions(size);
+        this(boardGrid, boardGrid.length);
+    }
+
+    public Board(final Character[][] boardGrid, final int winLength) {
+        this(boardGrid.length, winLength, boardGrid);
     }
 
     public Board(final int size) {
+        this(size, size);
+    }
+
+    public Board(final int size, final int winLength) {
+        this(size, winLength, new Character[Math.max(size, 0)][Math.max(size, 0)]);
+    }
+
+    Board(final int size, final int winLength, final Character[][] boardGrid) {
+        this(size, winLength, boardGrid, UNKNOWN_LINE_COUNT);
+    }
+
+    //a null grid is left to subclasses keeping their own representation of the marks
+    Board(final int size, final int winLength, final Character[][] boardGrid, final int liveLineCount) {
         if (size < MIN_BOARD_SIZE) {
             throw new IllegalArgumentException("Board size should be greater than " + MIN_BOARD_SIZE);
         }
+        if (winLength < MIN_WIN_LENGTH || winLength > size) {
+            throw new IllegalArgumentException("Win length should be between " + MIN_WIN_LENGTH + " and the board size");
+        }
         this.size = size;
-        this.boardGrid = new Character[size][size];
-        this.availablePositions = buildAvailablePositions(size);
+        this.winLength = winLength;
+        this.boardGrid = boardGrid;
+        this.availablePositions = boardGrid != null ? buildAvailablePositions(size) : null;
+        this.liveLineCount = liveLineCount;
     }
 
     public int getSize() {
         return size;
     }
 
+    public int getWinLength() {
+        return winLength;
+    }
+
     public Character[][] getBoardGrid() {
         return IntStream.range(0, size)
                         .mapToObj(row -> boardGrid[row].clone())
                         .toArray(Character[][]::new);
     }
 
-    public Set<BoardPosition> getAvailablePositions() {
-        return new HashSet<>(availablePositions);
+    public CellSet getAvailablePositions() {
+        return availablePositions;
     }
 
 
@@ -50,18 +76,63 @@ public class Board {
         return isPositionValid(row, col) && boardGrid[row][col] != null;
     }
 
+    public boolean isCellOccupied(final int cell) {
+        return isPositionOccupied(cell / size, cell % size);
+    }
+
     public boolean isPositionValid(final int row, final int col) {
         return isDimensionValid(row) && isDimensionValid(col);
     }
 
+    public Board placeMark(final int row, final int col, final char mark) {
+        if (!isPositionValid(row, col) || isPositionOccupied(row, col)) {
+            throw new IllegalArgumentException("Position is not available to place a mark.");
+        }
+
+        final int modifiedLiveLineCount = liveLineCountAfter(row * size + col, mark);
+        final Character[][] modifiedGrid = getBoardGrid();
+        modifiedGrid[row][col] = mark;
+
+        return new Board(size, winLength, modifiedGrid, modifiedLiveLineCount);
+    }
+
+    public Board placeMark(final int cell, final char mark) {
+        if (cell < 0 || cell >= size * size) {
+            throw new IllegalArgumentException("Position is not available to place a mark.");
+        }
+        return placeMark(cell / size, cell % size, mark);
+    }
+
+    //only the cells around the last move can complete a run, so they are scanned outward in the four directions
     public boolean checkForAWinner(final BoardPosition boardPosition) {
         final int row = boardPosition.getRow();
         final int col = boardPosition.getCol();
+        if (!isPositionValid(row, col) || getMarkAt(row, col) == ' ') {
+            return false;
+        }
 
-        return checkRow(row)
-                || checkColumn(col)
-                || checkDiagonalLeftToRight(row, col)
-                || checkDiagonalRightToLeft(row, col);
+        final char mark = getMarkAt(row, col);
+        for (final int[] direction : DIRECTIONS) {
+            final int runLength = 1 + countMarks(row, col, direction[0], direction[1], mark)
+                    + countMarks(row, col, -direction[0], -direction[1], mark);
+            if (runLength >= winLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    //a line is live while only one mark is on it, a board made by placing a mark takes the count of the board
+    //it came from minus the lines the mark killed, the others work it out once as boards never change
+    public int getLiveLineCount() {
+        if (liveLineCount == UNKNOWN_LINE_COUNT) {
+            liveLineCount = countLiveLines();
+        }
+        return liveLineCount;
+    }
+
+    public boolean hasLiveLines() {
+        return getLiveLineCount() > 0;
     }
 
     @Override
@@ -76,6 +147,7 @@ public class Board {
         final Board board = (Board) o;
 
         return size == board.size
+                && winLength == board.winLength
                 && Arrays.deepEquals(boardGrid, board.boardGrid)
                 && availablePositions.equals(board.availablePositions);
     }
@@ -83,6 +155,7 @@ public class Board {
     @Override
     public int hashCode() {
         int result = size;
+        result = 31 * result + winLength;
         result = 31 * result + Arrays.deepHashCode(boardGrid);
         return result;
     }
@@ -109,70 +182,109 @@ public class Board {
         return new String(sb);
     }
 
+    //only the lines through the cell can change, a live line holding another mark dies with this one
+    int liveLineCountAfter(final int cell, final char mark) {
+        final BoardLines lines = BoardLines.forSize(size, winLength);
+        int liveLines = getLiveLineCount();
+        for (final int line : lines.getCellLines(cell)) {
+            final char lineMark = lineMark(lines.getLineCells(line));
+            if (lineMark != MIXED_LINE && lineMark != ' ' && lineMark != mark) {
+                liveLines--;
+            }
+        }
+        return liveLines;
+    }
+
     char getMarkAt(final int row, final int col) {
         return boardGrid[row][col] != null ? boardGrid[row][col] : ' ';
     }
 
     boolean checkRow(final int row) {
-        return isDimensionValid(row) &&
-                IntStream.range(1, size)
-                         .allMatch(col -> compareTwoCells(row, col, row, col - 1));
+        return isDimensionValid(row) && hasRun(row, 0, 0, 1);
     }
 
     boolean checkColumn(final int col) {
-        return isDimensionValid(col) &&
-                IntStream.range(1, size)
-                         .allMatch(row -> compareTwoCells(row, col, row - 1, col));
+        return isDimensionValid(col) && hasRun(0, col, 1, 0);
     }
 
     boolean checkDiagonalLeftToRight(final int row, final int col) {
-        return row == col && isPositionValid(row, col) &&
-                IntStream.range(1, size)
-                         .allMatch(cellIndex -> compareTwoCells(cellIndex, cellIndex, cellIndex - 1, cellIndex - 1));
-
+        final int offset = Math.min(row, col);
+        return isPositionValid(row, col) && hasRun(row - offset, col - offset, 1, 1);
     }
 
     boolean checkDiagonalRightToLeft(final int row, final int col) {
-        if (isPositionValid(row, col) && getRightToLeftDiagonalCol(row) != col) {
-            return false;
-        }
-
-        for (int iRow = 1; iRow < size; iRow++) {
-            final int iCol = getRightToLeftDiagonalCol(iRow);
-            final int prevCol = getRightToLeftDiagonalCol(iRow - 1);
+        final int offset = Math.min(row, size - 1 - col);
+        return isPositionValid(row, col) && hasRun(row - offset, col + offset, 1, -1);
+    }
 
-            if (!compareTwoCells(iRow, iCol, iRow - 1, prevCol)) {
-                return false;
+    private boolean hasRun(final int startRow, final int startCol, final int rowStep, final int colStep) {
+        int runLength = 0;
+        char runMark = ' ';
+        for (int row = startRow, col = startCol; isPositionValid(row, col); row += rowStep, col += colStep) {
+            final char mark = getMarkAt(row, col);
+            runLength = mark != ' ' && mark == runMark ? runLength + 1 : 1;
+            runMark = mark;
+            if (runMark != ' ' && runLength >= winLength) {
+                return true;
             }
         }
-        return true;
+        return false;
     }
 
-    private int getRightToLeftDiagonalCol(final int row) {
-        return size - 1 - row;
+    private int countLiveLines() {
+        final BoardLines lines = BoardLines.forSize(size, winLength);
+        int liveLines = 0;
+        for (int line = 0; line < lines.getLineCount(); line++) {
+            if (lineMark(lines.getLineCells(line)) != MIXED_LINE) {
+                liveLines++;
+            }
+        }
+        return liveLines;
     }
 
-    private boolean compareTwoCells(final int currRow, final int currCol, final int prevRow, final int prevCol) {
-        final Character currentCell = boardGrid[currRow][currCol];
-        final Character previousCell = boardGrid[prevRow][prevCol];
 
-        return currentCell != null && currentCell == previousCell;
+    //the only mark on the line, a space when it is empty and MIXED_LINE when it holds different marks
+    private char lineMark(final int[] lineCells) {
+        char lineMark = ' ';
+        for (final int cell : lineCells) {
+            final char mark = getMarkAt(cell / size, cell % size);
+            if (mark != ' ' && lineMark != ' ' && mark != lineMark) {
+                return MIXED_LINE;
+            }
+            if (mark != ' ') {
+                lineMark = mark;
+            }
+        }
+        return lineMark;
+    }
+
+    private int countMarks(final int row, final int col, final int rowStep, final int colStep, final char mark) {
+        int count = 0;
+        int currRow = row + rowStep;
+        int currCol = col + colStep;
+        while (count < winLength - 1 && isPositionValid(currRow, currCol) && getMarkAt(currRow, currCol) == mark) {
+            count++;
+            currRow += rowStep;
+            currCol += colStep;
+        }
+        return count;
     }
 
     private boolean isDimensionValid(final int dimension) {
         return dimension >= 0 && dimension < size;
     }
 
-    private Set<BoardPosition> buildAvailablePositions(final int size) {
-        final Set<BoardPosition> boardPositions = new HashSet<>();
+    private CellSet buildAvailablePositions(final int size) {
+        final long[] bits = new long[CellSet.wordCount(size)];
         for (int row = 0; row < size; row++) {
             for (int col = 0; col < size; col++) {
                 if (!isPositionOccupied(row, col)) {
-                    boardPositions.add(new BoardPosition(row, col));
+                    final int cell = row * size + col;
+                    bits[cell / Long.SIZE] |= 1L << cell;
                 }
             }
         }
 
-        return boardPositions;
+        return new CellSet(size, bits);
     }
 }
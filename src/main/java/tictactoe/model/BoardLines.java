@@ -0,0 +1,154 @@
+package tictactoe.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+final class BoardLines {
+    private static final ConcurrentMap<Integer, BoardLines> LINES_BY_RULES = new ConcurrentHashMap<>();
+    private final int size;
+    private final int winLength;
+    private final int wordCount;
+    private final int[][] lineCells;
+    private final long[][] lineMasks;
+    private final int[][] cellLines;
+    private final int[][] cellLineIndices;
+
+    private BoardLines(final int size, final int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.wordCount = wordCount(size * size);
+        this.lineCells = buildLineCells(size, winLength);
+        this.lineMasks = buildLineMasks(lineCells, wordCount);
+        this.cellLines = buildCellLines(lineCells, size * size);
+        this.cellLineIndices = buildCellLineIndices(lineCells, cellLines);
+    }
+
+    static BoardLines forSize(final int size, final int winLength) {
+        return LINES_BY_RULES.computeIfAbsent(size << 16 | winLength, key -> new BoardLines(size, winLength));
+    }
+
+    static int wordCount(final int cellCount) {
+        return (cellCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    int getWinLength() {
+        return winLength;
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    int getLineCount() {
+        return lineCells.length;
+    }
+
+    int[] getLineCells(final int line) {
+        return lineCells[line];
+    }
+
+    long[] getLineMask(final int line) {
+        return lineMasks[line];
+    }
+
+    int[] getCellLines(final int cell) {
+        return cellLines[cell];
+    }
+
+    //position of the cell inside each of its lines, in the same order as the lines
+    int[] getCellLineIndices(final int cell) {
+        return cellLineIndices[cell];
+    }
+
+    //every run of win length cells in a row, column or diagonal is a line, with full length runs they are
+    //the rows, the columns and the two main diagonals
+    private static int[][] buildLineCells(final int size, final int winLength) {
+        final List<int[]> lines = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col + winLength <= size; col++) {
+                lines.add(buildLine(size, winLength, row, col, 0, 1));
+            }
+        }
+        for (int col = 0; col < size; col++) {
+            for (int row = 0; row + winLength <= size; row++) {
+                lines.add(buildLine(size, winLength, row, col, 1, 0));
+            }
+        }
+        for (int row = 0; row + winLength <= size; row++) {
+            for (int col = 0; col + winLength <= size; col++) {
+                lines.add(buildLine(size, winLength, row, col, 1, 1));
+            }
+        }
+        for (int row = 0; row + winLength <= size; row++) {
+            for (int col = size - 1; col - winLength + 1 >= 0; col--) {
+                lines.add(buildLine(size, winLength, row, col, 1, -1));
+            }
+        }
+
+        return lines.toArray(new int[0][]);
+    }
+
+    private static int[] buildLine(final int size, final int winLength, final int row, final int col, final int rowStep, final int colStep) {
+        final int[] line = new int[winLength];
+        for (int index = 0; index < winLength; index++) {
+            line[index] = (row + index * rowStep) * size + col + index * colStep;
+        }
+        return line;
+    }
+
+    private static long[][] buildLineMasks(final int[][] lineCells, final int wordCount) {
+        final long[][] masks = new long[lineCells.length][wordCount];
+        for (int line = 0; line < lineCells.length; line++) {
+            for (final int cell : lineCells[line]) {
+                masks[line][cell / Long.SIZE] |= 1L << cell;
+            }
+        }
+
+        return masks;
+    }
+
+    private static int[][] buildCellLines(final int[][] lineCells, final int cellCount) {
+        final int[] linesPerCell = new int[cellCount];
+        for (final int[] line : lineCells) {
+            for (final int cell : line) {
+                linesPerCell[cell]++;
+            }
+        }
+
+        final int[][] cellLines = new int[cellCount][];
+        for (int cell = 0; cell < cellCount; cell++) {
+            cellLines[cell] = new int[linesPerCell[cell]];
+            linesPerCell[cell] = 0;
+        }
+        for (int line = 0; line < lineCells.length; line++) {
+            for (final int cell : lineCells[line]) {
+                cellLines[cell][linesPerCell[cell]++] = line;
+            }
+        }
+
+        return cellLines;
+    }
+
+    private static int[][] buildCellLineIndices(final int[][] lineCells, final int[][] cellLines) {
+        final int[][] cellLineIndices = new int[cellLines.length][];
+        for (int cell = 0; cell < cellLines.length; cell++) {
+            cellLineIndices[cell] = new int[cellLines[cell].length];
+            for (int lineIndex = 0; lineIndex < cellLines[cell].length; lineIndex++) {
+                final int[] line = lineCells[cellLines[cell][lineIndex]];
+                int index = 0;
+                while (line[index] != cell) {
+                    index++;
+                }
+                cellLineIndices[cell][lineIndex] = index;
+            }
+        }
+
+        return cellLineIndices;
+    }
+}
@@ -1,6 +1,9 @@
 package tictactoe.model;
 
 public class BoardPosition {
+    static final int CACHED_SIZE = 10;
+    //positions of the largest playground are shared, they are immutable so every board size can use them
+    private static final BoardPosition[][] POSITIONS = new BoardPosition[CACHED_SIZE][CACHED_SIZE];
     private final int row;
     private final int col;
 
@@ -9,6 +12,25 @@ public class BoardPosition {
         this.col = col;
     }
 
+    static {
+        for (int row = 0; row < CACHED_SIZE; row++) {
+            for (int col = 0; col < CACHED_SIZE; col++) {
+                POSITIONS[row][col] = new BoardPosition(row, col);
+            }
+        }
+    }
+
+    public static BoardPosition of(final int row, final int col) {
+        if (row >= 0 && row < CACHED_SIZE && col >= 0 && col < CACHED_SIZE) {
+            return POSITIONS[row][col];
+        }
+        return new BoardPosition(row, col);
+    }
+
+    public static BoardPosition ofCell(final int cell, final int size) {
+        return of(cell / size, cell % size);
+    }
+
     public int getRow() {
         return row;
     }
@@ -17,6 +39,11 @@ public class BoardPosition {
         return col;
     }
 
+    //cells are numbered row by row, the form used by the search boards
+    public int getCell(final int size) {
+        return row * size + col;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
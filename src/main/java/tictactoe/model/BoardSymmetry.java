@@ -0,0 +1,51 @@
+package tictactoe.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class BoardSymmetry {
+    public static final int SYMMETRY_COUNT = 8;
+    public static final int IDENTITY = 0;
+    private static final int ROTATE_90 = 1;
+    private static final int ROTATE_270 = 3;
+    private static final ConcurrentMap<Integer, int[][]> CELL_MAPS_BY_SIZE = new ConcurrentHashMap<>();
+
+    private BoardSymmetry() {
+    }
+
+    public static int transform(final int size, final int symmetry, final int cell) {
+        return cellMaps(size)[symmetry][cell];
+    }
+
+    public static int inverse(final int symmetry) {
+        if (symmetry == ROTATE_90) {
+            return ROTATE_270;
+        }
+        return symmetry == ROTATE_270 ? ROTATE_90 : symmetry;
+    }
+
+    static int[][] cellMaps(final int size) {
+        return CELL_MAPS_BY_SIZE.computeIfAbsent(size, BoardSymmetry::buildCellMaps);
+    }
+
+    //rotations by 0, 90, 180 and 270 degrees followed by the four reflections
+    private static int[][] buildCellMaps(final int size) {
+        final int last = size - 1;
+        final int[][] cellMaps = new int[SYMMETRY_COUNT][size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                final int cell = row * size + col;
+                cellMaps[0][cell] = row * size + col;
+                cellMaps[1][cell] = col * size + (last - row);
+                cellMaps[2][cell] = (last - row) * size + (last - col);
+                cellMaps[3][cell] = (last - col) * size + row;
+                cellMaps[4][cell] = row * size + (last - col);
+                cellMaps[5][cell] = (last - row) * size + col;
+                cellMaps[6][cell] = col * size + row;
+                cellMaps[7][cell] = (last - col) * size + (last - row);
+            }
+        }
+
+        return cellMaps;
+    }
+}
@@ -0,0 +1,138 @@
+package tictactoe.model;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+//immutable set of board positions kept as one bit per cell, positions are only created while iterating
+public final class CellSet extends AbstractSet<BoardPosition> {
+    public static final int NO_CELL = -1;
+    private final int boardSize;
+    private final long[] bits;
+    private final int count;
+
+    //the bits are owned by the set, they must not be changed afterwards
+    CellSet(final int boardSize, final long[] bits) {
+        this.boardSize = boardSize;
+        this.bits = bits;
+
+        int bitCount = 0;
+        for (final long word : bits) {
+            bitCount += Long.bitCount(word);
+        }
+        this.count = bitCount;
+    }
+
+    public static int wordCount(final int boardSize) {
+        return (boardSize * boardSize + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        if (!(o instanceof BoardPosition)) {
+            return false;
+        }
+
+        final BoardPosition position = (BoardPosition) o;
+        final int row = position.getRow();
+        final int col = position.getCol();
+        return row >= 0 && row < boardSize && col >= 0 && col < boardSize && containsCell(row * boardSize + col);
+    }
+
+    public boolean containsCell(final int cell) {
+        return cell >= 0 && cell < boardSize * boardSize && (bits[cell / Long.SIZE] & (1L << cell)) != 0;
+    }
+
+    //first cell of the set at or after the given one, NO_CELL when there is none
+    public int nextCell(final int fromCell) {
+        if (fromCell < 0) {
+            return nextCell(0);
+        }
+
+        int word = fromCell / Long.SIZE;
+        if (word >= bits.length) {
+            return NO_CELL;
+        }
+
+        long remaining = bits[word] & (-1L << fromCell);
+        while (remaining == 0) {
+            if (++word == bits.length) {
+                return NO_CELL;
+            }
+            remaining = bits[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+    }
+
+    public PrimitiveIterator.OfInt cellIterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int cell = nextCell(0);
+
+            @Override
+            public boolean hasNext() {
+                return cell != NO_CELL;
+            }
+
+            @Override
+            public int nextInt() {
+                if (cell == NO_CELL) {
+                    throw new NoSuchElementException();
+                }
+
+                final int current = cell;
+                cell = nextCell(current + 1);
+                return current;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<BoardPosition> iterator() {
+        final PrimitiveIterator.OfInt cells = cellIterator();
+        return new Iterator<BoardPosition>() {
+            @Override
+            public boolean hasNext() {
+                return cells.hasNext();
+            }
+
+            @Override
+            public BoardPosition next() {
+                return BoardPosition.ofCell(cells.nextInt(), boardSize);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof CellSet) {
+            final CellSet that = (CellSet) o;
+            return boardSize == that.boardSize && Arrays.equals(bits, that.bits);
+        }
+
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,184 @@
+package tictactoe.model;
+
+public class EngineConfiguration {
+    public static final long DEFAULT_MOVE_TIMEOUT_MILLIS = 1000;
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final int UNLIMITED_PLAYOUTS = 0;
+    public static final int DEFAULT_ENDGAME_EMPTY_CELLS = 10;
+    public static final int NO_ENDGAME_SOLVER = 0;
+    public static final int DEFAULT_PROOF_NODE_LIMIT = 20_000;
+    public static final int NO_PROOF_SEARCH = 0;
+    public static final int UNLIMITED_DEPTH = 0;
+    private final EngineType engineType;
+    private final long moveTimeoutMillis;
+    private final int parallelism;
+    private final int playoutLimit;
+    private final int endgameEmptyCells;
+    private final int proofNodeLimit;
+    private final int searchDepth;
+    private final boolean deterministic;
+
+    private EngineConfiguration(final EngineConfigurationBuilder builder) {
+        this.engineType = builder.engineType;
+        this.moveTimeoutMillis = builder.moveTimeoutMillis;
+        this.parallelism = builder.parallelism;
+        this.playoutLimit = builder.playoutLimit;
+        this.endgameEmptyCells = builder.endgameEmptyCells;
+        this.proofNodeLimit = builder.proofNodeLimit;
+        this.searchDepth = builder.searchDepth;
+        this.deterministic = builder.deterministic;
+    }
+
+    //only an engine stopped by its own limits instead of the clock plays the same moves run to run
+    public static boolean hasFixedLimits(final EngineType engineType, final int searchDepth, final int parallelism, final int playoutLimit) {
+        return engineType == EngineType.MCTS ? playoutLimit != UNLIMITED_PLAYOUTS
+                                             : searchDepth != UNLIMITED_DEPTH && parallelism == 1;
+    }
+
+    public EngineType getEngineType() {
+        return engineType;
+    }
+
+    public long getMoveTimeoutMillis() {
+        return moveTimeoutMillis;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getPlayoutLimit() {
+        return playoutLimit;
+    }
+
+    public int getEndgameEmptyCells() {
+        return endgameEmptyCells;
+    }
+
+    public int getProofNodeLimit() {
+        return proofNodeLimit;
+    }
+
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    //every stage runs to its own limits without a deadline and forgets what it learned between games
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EngineConfiguration)) {
+            return false;
+        }
+
+        final EngineConfiguration that = (EngineConfiguration) o;
+
+        return moveTimeoutMillis == that.moveTimeoutMillis
+                && parallelism == that.parallelism
+                && playoutLimit == that.playoutLimit
+                && endgameEmptyCells == that.endgameEmptyCells
+                && proofNodeLimit == that.proofNodeLimit
+                && searchDepth == that.searchDepth
+                && deterministic == that.deterministic
+                && engineType == that.engineType;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = engineType.hashCode();
+        result = 31 * result + (int) (moveTimeoutMillis ^ (moveTimeoutMillis >>> 32));
+        result = 31 * result + parallelism;
+        result = 31 * result + playoutLimit;
+        result = 31 * result + endgameEmptyCells;
+        result = 31 * result + proofNodeLimit;
+        result = 31 * result + searchDepth;
+        result = 31 * result + (deterministic ? 1 : 0);
+        return result;
+    }
+
+    public static class EngineConfigurationBuilder {
+        private EngineType engineType = EngineType.MINIMAX;
+        private long moveTimeoutMillis = DEFAULT_MOVE_TIMEOUT_MILLIS;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private int playoutLimit = UNLIMITED_PLAYOUTS;
+        private int endgameEmptyCells = DEFAULT_ENDGAME_EMPTY_CELLS;
+        private int proofNodeLimit = DEFAULT_PROOF_NODE_LIMIT;
+        private int searchDepth = UNLIMITED_DEPTH;
+        private boolean deterministic;
+
+        public EngineConfigurationBuilder engineType(final EngineType engineType) {
+            if (engineType == null) {
+                throw new IllegalArgumentException("Invalid engine type.");
+            }
+            this.engineType = engineType;
+            return this;
+        }
+
+        public EngineConfigurationBuilder moveTimeoutMillis(final long moveTimeoutMillis) {
+            if (moveTimeoutMillis <= 0) {
+                throw new IllegalArgumentException("Invalid move timeout.");
+            }
+            this.moveTimeoutMillis = moveTimeoutMillis;
+            return this;
+        }
+
+        public EngineConfigurationBuilder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Invalid parallelism.");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public EngineConfigurationBuilder playoutLimit(final int playoutLimit) {
+            if (playoutLimit < 0) {
+                throw new IllegalArgumentException("Invalid playout limit.");
+            }
+            this.playoutLimit = playoutLimit;
+            return this;
+        }
+
+        public EngineConfigurationBuilder endgameEmptyCells(final int endgameEmptyCells) {
+            if (endgameEmptyCells < 0) {
+                throw new IllegalArgumentException("Invalid endgame empty cells.");
+            }
+            this.endgameEmptyCells = endgameEmptyCells;
+            return this;
+        }
+
+        public EngineConfigurationBuilder proofNodeLimit(final int proofNodeLimit) {
+            if (proofNodeLimit < 0) {
+                throw new IllegalArgumentException("Invalid proof node limit.");
+            }
+            this.proofNodeLimit = proofNodeLimit;
+            return this;
+        }
+
+        public EngineConfigurationBuilder searchDepth(final int searchDepth) {
+            if (searchDepth < 0) {
+                throw new IllegalArgumentException("Invalid search depth.");
+            }
+            this.searchDepth = searchDepth;
+            return this;
+        }
+
+        public EngineConfigurationBuilder deterministic(final boolean deterministic) {
+            this.deterministic = deterministic;
+            return this;
+        }
+
+        public EngineConfiguration build() {
+            if (deterministic && !hasFixedLimits(engineType, searchDepth, parallelism, playoutLimit)) {
+                throw new IllegalArgumentException("Deterministic engines need a fixed search depth on one thread for minimax "
+                                                           + "or a fixed number of playouts for mcts.");
+            }
+            return new EngineConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package tictactoe.model;
+
+public enum EngineType {
+    MINIMAX, MCTS
+}
@@ -43,7 +43,8 @@ public class Game {
     public boolean isGameOver() {
         return winner != null
                 || turnCount >= maxTurns
-                || escape;
+                || escape
+                || !board.hasLiveLines();
     }
 
     public Player getActivePlayer() {
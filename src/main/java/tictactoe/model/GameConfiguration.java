@@ -1,17 +1,33 @@
 package tictactoe.model;
 
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+
 public class GameConfiguration {
     public static final int NUMBER_OF_PLAYERS = 3;
     private final Character[] playerMarks;
     private final int playgroundSize;
+    private final int winLength;
+    private final EngineConfiguration engineConfiguration;
 
     public GameConfiguration(final Character[] playerMarks, final int playgroundSize) {
-        if (playgroundSize < 1 || playerMarks.length != NUMBER_OF_PLAYERS) {
+        this(playerMarks, playgroundSize, new EngineConfigurationBuilder().build());
+    }
+
+    public GameConfiguration(final Character[] playerMarks, final int playgroundSize, final EngineConfiguration engineConfiguration) {
+        this(playerMarks, playgroundSize, playgroundSize, engineConfiguration);
+    }
+
+    public GameConfiguration(final Character[] playerMarks, final int playgroundSize, final int winLength,
+                             final EngineConfiguration engineConfiguration) {
+        if (playgroundSize < 1 || winLength < Board.MIN_WIN_LENGTH || winLength > playgroundSize
+                || playerMarks.length != NUMBER_OF_PLAYERS || engineConfiguration == null) {
             throw new IllegalArgumentException("Invalid values on parameters.");
         }
 
         this.playerMarks = playerMarks.clone();
         this.playgroundSize = playgroundSize;
+        this.winLength = winLength;
+        this.engineConfiguration = engineConfiguration;
     }
 
     public Character[] getPlayerMarks() {
@@ -21,4 +37,12 @@ public class GameConfiguration {
     public int getPlaygroundSize() {
         return playgroundSize;
     }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public EngineConfiguration getEngineConfiguration() {
+        return engineConfiguration;
+    }
 }
@@ -0,0 +1,95 @@
+package tictactoe.model;
+
+import tictactoe.model.Game.GameBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//mutable counterpart of Game, moves are applied in place so playing a move doesn't allocate
+public class GameState {
+    private final Player[] players;
+    private final MutableBoard board;
+    private boolean escape;
+
+    public GameState(final int boardSize, final List<Player> playerList) {
+        this(boardSize, boardSize, playerList);
+    }
+
+    public GameState(final int boardSize, final int winLength, final List<Player> playerList) {
+        if (playerList == null || playerList.isEmpty()) {
+            throw new IllegalArgumentException("Invalid game parameters.");
+        }
+
+        this.players = playerList.toArray(new Player[0]);
+        final char[] marks = new char[players.length];
+        for (int player = 0; player < players.length; player++) {
+            marks[player] = players[player].getMark();
+        }
+        this.board = new MutableBoard(boardSize, winLength, marks);
+    }
+
+    //the board is shared so engines can search on it, they must leave it as they found it
+    public MutableBoard getBoard() {
+        return board;
+    }
+
+    public int getTurnCount() {
+        return board.getWinner() != NO_PLAYER ? board.getMoveCount() - 1 : board.getMoveCount();
+    }
+
+    public Player getActivePlayer() {
+        return players[board.getPlayerToMove()];
+    }
+
+    public Player getWinner() {
+        return board.getWinner() != NO_PLAYER ? players[board.getWinner()] : null;
+    }
+
+    public boolean isEscape() {
+        return escape;
+    }
+
+    public boolean isGameOver() {
+        return escape || board.isGameOver();
+    }
+
+    public boolean isPositionAvailable(final int row, final int col) {
+        final int size = board.getSize();
+        return row >= 0 && row < size && col >= 0 && col < size && !board.isOccupied(row * size + col);
+    }
+
+    public void makeMove(final int row, final int col) {
+        if (isGameOver()) {
+            throw new IllegalStateException("Game is already over.");
+        }
+        if (!isPositionAvailable(row, col)) {
+            throw new IllegalArgumentException("Position is not available to place a mark.");
+        }
+
+        board.makeMove(row * board.getSize() + col);
+    }
+
+    //nothing can be played after an escape, so when there is one it is what gets undone and the board stays
+    public void undoMove() {
+        if (escape) {
+            escape = false;
+        } else {
+            board.undoMove();
+        }
+    }
+
+    public void escape() {
+        escape = true;
+    }
+
+    public Game toGame() {
+        final GameBuilder gameBuilder = new GameBuilder(board.toBoard(), Arrays.asList(players))
+                .turnCount(getTurnCount())
+                .escape(escape);
+        final Player winner = getWinner();
+
+        return winner != null ? gameBuilder.winner(winner).build() : gameBuilder.build();
+    }
+}
@@ -0,0 +1,102 @@
+package tictactoe.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+//the contents of a line as a base 4 number, two bits per cell holding 0 when empty or the player plus one,
+//everything the board needs about a line is worked out once per win length so a changed line is one lookup
+final class LinePatterns {
+    static final int MAX_PLAYERS = 3;
+    static final int MAX_WIN_LENGTH = 10;
+    static final int CELL_BITS = 2;
+    private static final int COUNT_BITS = 4;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    private static final int OWNER_COUNT_SHIFT = MAX_PLAYERS * COUNT_BITS;
+    private static final int OWNER_SHIFT = OWNER_COUNT_SHIFT + 2;
+    private static final int WEIGHT_SHIFT = OWNER_SHIFT + 2;
+    private static final int THREAT_BIT = 1 << 30;
+    private static final ConcurrentMap<Integer, LinePatterns> PATTERNS_BY_WIN_LENGTH = new ConcurrentHashMap<>();
+    private final int[] entries;
+
+    private LinePatterns(final int winLength) {
+        this.entries = buildEntries(winLength);
+    }
+
+    static LinePatterns forWinLength(final int winLength) {
+        if (winLength > MAX_WIN_LENGTH) {
+            throw new IllegalArgumentException("Win length should be at most " + MAX_WIN_LENGTH);
+        }
+        return PATTERNS_BY_WIN_LENGTH.computeIfAbsent(winLength, LinePatterns::new);
+    }
+
+    //what a mark of the player adds to the pattern of a line holding the cell at the index
+    static int digit(final int index, final int player) {
+        return (player + 1) << (CELL_BITS * index);
+    }
+
+    int getEntry(final int pattern) {
+        return entries[pattern];
+    }
+
+    static int markCount(final int entry, final int player) {
+        return (entry >>> (player * COUNT_BITS)) & COUNT_MASK;
+    }
+
+    static int ownerCount(final int entry) {
+        return (entry >>> OWNER_COUNT_SHIFT) & 3;
+    }
+
+    //the only player with marks on the line, NO_PLAYER when the line is empty or dead
+    static int owner(final int entry) {
+        return ((entry >>> OWNER_SHIFT) & 3) - 1;
+    }
+
+    //each mark of the owner doubles the worth of a line, dead and empty lines are worth nothing
+    static int weight(final int entry) {
+        return (entry & ~THREAT_BIT) >>> WEIGHT_SHIFT;
+    }
+
+    //a line the owner completes with one more mark
+    static boolean isThreat(final int entry) {
+        return (entry & THREAT_BIT) != 0;
+    }
+
+    static boolean isLive(final int entry) {
+        return ownerCount(entry) <= 1;
+    }
+
+    private static int[] buildEntries(final int winLength) {
+        final int[] entries = new int[1 << (CELL_BITS * winLength)];
+        final int[] counts = new int[MAX_PLAYERS + 1];
+        for (int pattern = 0; pattern < entries.length; pattern++) {
+            for (int index = 0; index < winLength; index++) {
+                counts[(pattern >>> (CELL_BITS * index)) & 3]++;
+            }
+
+            int entry = 0;
+            int ownerCount = 0;
+            int owner = NO_PLAYER;
+            for (int player = 0; player < MAX_PLAYERS; player++) {
+                final int count = counts[player + 1];
+                entry |= count << (player * COUNT_BITS);
+                if (count > 0) {
+                    ownerCount++;
+                    owner = player;
+                }
+            }
+            entry |= ownerCount << OWNER_COUNT_SHIFT;
+            if (ownerCount == 1) {
+                final int count = counts[owner + 1];
+                entry |= (owner + 1) << OWNER_SHIFT | (1 << (count - 1)) << WEIGHT_SHIFT;
+                entry |= count == winLength - 1 ? THREAT_BIT : 0;
+            }
+
+            entries[pattern] = entry;
+            Arrays.fill(counts, 0);
+        }
+        return entries;
+    }
+}
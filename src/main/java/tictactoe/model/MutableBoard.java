@@ -0,0 +1,387 @@
+package tictactoe.model;
+
+import java.util.Arrays;
+
+public class MutableBoard {
+    public static final int NO_PLAYER = -1;
+    private static final int NO_MOVE = -1;
+    private static final int NO_LINE_GROUP = -1;
+    //the threat lines of a player come first, then the lines one mark short of a threat
+    private static final int LINE_GROUPS = 2;
+    private final int size;
+    private final BoardLines lines;
+    private final LinePatterns patterns;
+    private final char[] marks;
+    private final int[] cells;
+    private final long[] occupied;
+    private final int[] linePatterns;
+    private final int[] lineScores;
+    //live lines of a single player grouped by the marks they miss, kept up to date on every move and undo
+    private final int[][] groupLines;
+    private final int[] groupLineCounts;
+    private final int[] lineGroupIndices;
+    private final long[] zobristKeys;
+    private final int[][] symmetryCellMaps;
+    private final long[] symmetryKeys;
+    private final int[] moves;
+    private int moveCount;
+    private int winner = NO_PLAYER;
+    private int winningMoveCount = NO_MOVE;
+    private int liveLineCount;
+
+    public MutableBoard(final int size, final char[] marks) {
+        this(size, size, marks);
+    }
+
+    public MutableBoard(final int size, final int winLength, final char[] marks) {
+        if (size < Board.MIN_BOARD_SIZE) {
+            throw new IllegalArgumentException("Board size should be greater than " + Board.MIN_BOARD_SIZE);
+        }
+        if (winLength < Board.MIN_WIN_LENGTH || winLength > size) {
+            throw new IllegalArgumentException("Win length should be between " + Board.MIN_WIN_LENGTH + " and the board size");
+        }
+        if (marks.length == 0 || marks.length > LinePatterns.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Board needs between 1 and " + LinePatterns.MAX_PLAYERS + " player marks.");
+        }
+        this.lines = BoardLines.forSize(size, winLength);
+        this.patterns = LinePatterns.forWinLength(winLength);
+        this.size = size;
+        this.marks = marks.clone();
+        this.cells = new int[size * size];
+        this.occupied = new long[lines.getWordCount()];
+        this.linePatterns = new int[lines.getLineCount()];
+        this.lineScores = new int[marks.length];
+        this.groupLines = new int[marks.length * LINE_GROUPS][lines.getLineCount()];
+        this.groupLineCounts = new int[marks.length * LINE_GROUPS];
+        this.lineGroupIndices = new int[lines.getLineCount()];
+        this.liveLineCount = lines.getLineCount();
+        this.zobristKeys = new long[size * size * marks.length];
+        this.symmetryCellMaps = BoardSymmetry.cellMaps(size);
+        this.symmetryKeys = new long[BoardSymmetry.SYMMETRY_COUNT];
+        this.moves = new int[size * size];
+        Arrays.fill(cells, NO_PLAYER);
+        Arrays.fill(symmetryKeys, ZobristKeys.boardKey(size, winLength, marks.length));
+        for (int cell = 0; cell < size * size; cell++) {
+            for (int player = 0; player < marks.length; player++) {
+                zobristKeys[cell * marks.length + player] = ZobristKeys.cellKey(size, cell, player);
+            }
+        }
+    }
+
+    public MutableBoard(final Board board, final char[] marks) {
+        this(board.getSize(), board.getWinLength(), marks);
+        final Character[][] boardGrid = board.getBoardGrid();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (boardGrid[row][col] != null) {
+                    makeMove(row, col, boardGrid[row][col]);
+                }
+            }
+        }
+    }
+
+    //independent copy for searching on another thread, the move history is kept so moves can still be undone
+    public MutableBoard(final MutableBoard board) {
+        this.lines = board.lines;
+        this.patterns = board.patterns;
+        this.size = board.size;
+        this.marks = board.marks;
+        this.cells = board.cells.clone();
+        this.occupied = board.occupied.clone();
+        this.linePatterns = board.linePatterns.clone();
+        this.lineScores = board.lineScores.clone();
+        this.groupLines = new int[board.groupLines.length][];
+        for (int group = 0; group < groupLines.length; group++) {
+            groupLines[group] = board.groupLines[group].clone();
+        }
+        this.groupLineCounts = board.groupLineCounts.clone();
+        this.lineGroupIndices = board.lineGroupIndices.clone();
+        this.liveLineCount = board.liveLineCount;
+        this.zobristKeys = board.zobristKeys;
+        this.symmetryCellMaps = board.symmetryCellMaps;
+        this.symmetryKeys = board.symmetryKeys.clone();
+        this.moves = board.moves.clone();
+        this.moveCount = board.moveCount;
+        this.winner = board.winner;
+        this.winningMoveCount = board.winningMoveCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return lines.getWinLength();
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    public int getPlayerCount() {
+        return marks.length;
+    }
+
+    public char getMark(final int player) {
+        return marks[player];
+    }
+
+    public int getPlayer(final char mark) {
+        for (int player = 0; player < marks.length; player++) {
+            if (marks[player] == mark) {
+                return player;
+            }
+        }
+        return NO_PLAYER;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public int getEmptyCount() {
+        return cells.length - moveCount;
+    }
+
+    public int getPlayerToMove() {
+        return moveCount % marks.length;
+    }
+
+    public int getMove(final int index) {
+        if (index < 0 || index >= moveCount) {
+            throw new IllegalArgumentException("Move index is out of the played moves.");
+        }
+        return moves[index];
+    }
+
+    public int getLastMove() {
+        return moveCount > 0 ? moves[moveCount - 1] : NO_MOVE;
+    }
+
+    public int getPlayerAt(final int cell) {
+        return cells[cell];
+    }
+
+    public boolean isOccupied(final int cell) {
+        return (occupied[cell / Long.SIZE] & (1L << cell)) != 0;
+    }
+
+    public long getZobristKey() {
+        return symmetryKeys[BoardSymmetry.IDENTITY];
+    }
+
+    //the same key for all the rotations and reflections of the position
+    public long getCanonicalKey() {
+        return symmetryKeys[getCanonicalSymmetry()];
+    }
+
+    public long getSymmetryKey(final int symmetry) {
+        return symmetryKeys[symmetry];
+    }
+
+    public int getCanonicalSymmetry() {
+        int canonicalSymmetry = BoardSymmetry.IDENTITY;
+        for (int symmetry = 1; symmetry < symmetryKeys.length; symmetry++) {
+            if (symmetryKeys[symmetry] < symmetryKeys[canonicalSymmetry]) {
+                canonicalSymmetry = symmetry;
+            }
+        }
+        return canonicalSymmetry;
+    }
+
+    public int getWinner() {
+        return winner;
+    }
+
+    //lines holding marks of a single player at most can still be won
+    public int getLiveLineCount() {
+        return liveLineCount;
+    }
+
+    //sum over the live lines only the player has marks on, each mark doubling the worth of a line
+    public int getLineScore(final int player) {
+        return lineScores[player];
+    }
+
+    //live lines the player completes with one more mark
+    public int getThreatLineCount(final int player) {
+        return groupLineCounts[player * LINE_GROUPS];
+    }
+
+    public int getThreatLine(final int player, final int index) {
+        return getGroupLine(player * LINE_GROUPS, index);
+    }
+
+    //live lines the player turns into a threat with one more mark
+    public int getPreThreatLineCount(final int player) {
+        return groupLineCounts[player * LINE_GROUPS + 1];
+    }
+
+    public int getPreThreatLine(final int player, final int index) {
+        return getGroupLine(player * LINE_GROUPS + 1, index);
+    }
+
+    public int getLineCount() {
+        return lines.getLineCount();
+    }
+
+    public int getLineCell(final int line, final int index) {
+        return lines.getLineCells(line)[index];
+    }
+
+    public int getCellLineCount(final int cell) {
+        return lines.getCellLines(cell).length;
+    }
+
+    public int getCellLine(final int cell, final int index) {
+        return lines.getCellLines(cell)[index];
+    }
+
+    public int getLineMarkCount(final int line, final int player) {
+        return LinePatterns.markCount(patterns.getEntry(linePatterns[line]), player);
+    }
+
+    //number of players with marks on the line, it can only be won while this is at most one
+    public int getLineOwnerCount(final int line) {
+        return LinePatterns.ownerCount(patterns.getEntry(linePatterns[line]));
+    }
+
+    //the game is a draw as soon as every line has marks of two players, even with empty cells left
+    public boolean isGameOver() {
+        return winner != NO_PLAYER || moveCount == cells.length || liveLineCount == 0;
+    }
+
+    public void makeMove(final int row, final int col, final char mark) {
+        final int player = getPlayer(mark);
+        if (player == NO_PLAYER) {
+            throw new IllegalArgumentException("Mark doesn't belong to any player on the board.");
+        }
+        if (row < 0 || row >= size || col < 0 || col >= size || isOccupied(row * size + col)) {
+            throw new IllegalArgumentException("Position is not available to place a mark.");
+        }
+
+        placeMark(row * size + col, player);
+    }
+
+    public void makeMove(final int cell) {
+        placeMark(cell, getPlayerToMove());
+    }
+
+    public void undoMove() {
+        if (moveCount == 0) {
+            throw new IllegalStateException("There are no moves to undo.");
+        }
+
+        if (winningMoveCount == moveCount) {
+            winner = NO_PLAYER;
+            winningMoveCount = NO_MOVE;
+        }
+
+        final int cell = moves[--moveCount];
+        final int player = cells[cell];
+        final int[] cellLines = lines.getCellLines(cell);
+        final int[] cellLineIndices = lines.getCellLineIndices(cell);
+        for (int lineIndex = 0; lineIndex < cellLines.length; lineIndex++) {
+            final int line = cellLines[lineIndex];
+            updateLine(line, linePatterns[line] - LinePatterns.digit(cellLineIndices[lineIndex], player));
+        }
+        occupied[cell / Long.SIZE] &= ~(1L << cell);
+        updateSymmetryKeys(cell, player);
+        cells[cell] = NO_PLAYER;
+    }
+
+    public Board toBoard() {
+        final Character[][] boardGrid = new Character[size][size];
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] != NO_PLAYER) {
+                boardGrid[cell / size][cell % size] = marks[cells[cell]];
+            }
+        }
+
+        return new Board(boardGrid, lines.getWinLength());
+    }
+
+    private void placeMark(final int cell, final int player) {
+        cells[cell] = player;
+        occupied[cell / Long.SIZE] |= 1L << cell;
+        updateSymmetryKeys(cell, player);
+        moves[moveCount++] = cell;
+
+        final int[] cellLines = lines.getCellLines(cell);
+        final int[] cellLineIndices = lines.getCellLineIndices(cell);
+        for (int lineIndex = 0; lineIndex < cellLines.length; lineIndex++) {
+            final int line = cellLines[lineIndex];
+            final int entry = updateLine(line, linePatterns[line] + LinePatterns.digit(cellLineIndices[lineIndex], player));
+            if (LinePatterns.markCount(entry, player) == lines.getWinLength() && winner == NO_PLAYER) {
+                winner = player;
+                winningMoveCount = moveCount;
+            }
+        }
+    }
+
+    //the worth of the line before and after the change comes from the pattern table, no cell of the line is read
+    private int updateLine(final int line, final int pattern) {
+        final int oldEntry = patterns.getEntry(linePatterns[line]);
+        final int newEntry = patterns.getEntry(pattern);
+        linePatterns[line] = pattern;
+
+        final int oldOwner = LinePatterns.owner(oldEntry);
+        if (oldOwner != NO_PLAYER) {
+            lineScores[oldOwner] -= LinePatterns.weight(oldEntry);
+        }
+        final int newOwner = LinePatterns.owner(newEntry);
+        if (newOwner != NO_PLAYER) {
+            lineScores[newOwner] += LinePatterns.weight(newEntry);
+        }
+        liveLineCount += (LinePatterns.isLive(newEntry) ? 1 : 0) - (LinePatterns.isLive(oldEntry) ? 1 : 0);
+
+        final int oldGroup = lineGroup(oldEntry);
+        final int newGroup = lineGroup(newEntry);
+        if (oldGroup != newGroup) {
+            if (oldGroup != NO_LINE_GROUP) {
+                removeGroupLine(oldGroup, line);
+            }
+            if (newGroup != NO_LINE_GROUP) {
+                addGroupLine(newGroup, line);
+            }
+        }
+        return newEntry;
+    }
+
+    private int lineGroup(final int entry) {
+        final int owner = LinePatterns.owner(entry);
+        if (owner == NO_PLAYER) {
+            return NO_LINE_GROUP;
+        }
+        if (LinePatterns.isThreat(entry)) {
+            return owner * LINE_GROUPS;
+        }
+        return LinePatterns.markCount(entry, owner) == lines.getWinLength() - 2 ? owner * LINE_GROUPS + 1 : NO_LINE_GROUP;
+    }
+
+    private int getGroupLine(final int group, final int index) {
+        if (index < 0 || index >= groupLineCounts[group]) {
+            throw new IllegalArgumentException("Line index is out of the lines of the group.");
+        }
+        return groupLines[group][index];
+    }
+
+    private void addGroupLine(final int group, final int line) {
+        lineGroupIndices[line] = groupLineCounts[group];
+        groupLines[group][groupLineCounts[group]++] = line;
+    }
+
+    //the last line of the group takes the place of the removed one
+    private void removeGroupLine(final int group, final int line) {
+        final int index = lineGroupIndices[line];
+        final int lastLine = groupLines[group][--groupLineCounts[group]];
+        groupLines[group][index] = lastLine;
+        lineGroupIndices[lastLine] = index;
+    }
+
+    private void updateSymmetryKeys(final int cell, final int player) {
+        for (int symmetry = 0; symmetry < symmetryKeys.length; symmetry++) {
+            symmetryKeys[symmetry] ^= zobristKeys[symmetryCellMaps[symmetry][cell] * marks.length + player];
+        }
+    }
+}
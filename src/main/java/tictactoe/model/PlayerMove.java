@@ -1,22 +1,56 @@
 package tictactoe.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class PlayerMove {
     private final BoardPosition position;
     private final boolean escape;
+    private final int searchDepth;
+    private final long searchNodes;
+    private final double playoutsPerSecond;
+    private final List<BoardPosition> principalVariation;
 
     private PlayerMove(final PlayerMoveBuilder builder) {
         this.position = builder.position;
         this.escape = builder.escape;
+        this.searchDepth = builder.searchDepth;
+        this.searchNodes = builder.searchNodes;
+        this.playoutsPerSecond = builder.playoutsPerSecond;
+        this.principalVariation = Collections.unmodifiableList(new ArrayList<>(builder.principalVariation));
     }
 
     public BoardPosition getPosition() {
         return position;
     }
 
+    public int getCell(final int size) {
+        return position.getCell(size);
+    }
+
     public boolean isEscape() {
         return escape;
     }
 
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    public long getSearchNodes() {
+        return searchNodes;
+    }
+
+    //0 unless the move was searched by playing random games out
+    public double getPlayoutsPerSecond() {
+        return playoutsPerSecond;
+    }
+
+    //the line of play the search expects from this move on, empty when the move wasn't searched
+    public List<BoardPosition> getPrincipalVariation() {
+        return principalVariation;
+    }
+
     public boolean isValidMove() {
         return position != null;
     }
@@ -46,17 +80,55 @@ public class PlayerMove {
     public static class PlayerMoveBuilder {
         private BoardPosition position;
         private boolean escape;
+        private int searchDepth;
+        private long searchNodes;
+        private double playoutsPerSecond;
+        private List<BoardPosition> principalVariation = Collections.emptyList();
 
         public PlayerMoveBuilder position(final BoardPosition position) {
             this.position = position;
             return this;
         }
 
+        public PlayerMoveBuilder cell(final int cell, final int size) {
+            this.position = BoardPosition.ofCell(cell, size);
+            return this;
+        }
+
         public PlayerMoveBuilder escape(final boolean escape) {
             this.escape = escape;
             return this;
         }
 
+        public PlayerMoveBuilder searchDepth(final int searchDepth) {
+            this.searchDepth = searchDepth;
+            return this;
+        }
+
+        public PlayerMoveBuilder searchNodes(final long searchNodes) {
+            this.searchNodes = searchNodes;
+            return this;
+        }
+
+        public PlayerMoveBuilder playoutsPerSecond(final double playoutsPerSecond) {
+            this.playoutsPerSecond = playoutsPerSecond;
+            return this;
+        }
+
+        public PlayerMoveBuilder principalVariation(final List<BoardPosition> principalVariation) {
+            this.principalVariation = principalVariation;
+            return this;
+        }
+
+        public PlayerMoveBuilder principalVariation(final int[] cells, final int size) {
+            final List<BoardPosition> positions = new ArrayList<>(cells.length);
+            for (final int cell : cells) {
+                positions.add(BoardPosition.ofCell(cell, size));
+            }
+            this.principalVariation = positions;
+            return this;
+        }
+
         public PlayerMove build() {
             return new PlayerMove(this);
         }
@@ -0,0 +1,37 @@
+package tictactoe.model;
+
+public final class ZobristKeys {
+    private static final long CELL_SALT = 0x2545F4914F6CDD1DL;
+    private static final long PLAYER_SALT = 0x9E3779B97F4A7C15L;
+    private static final long BOARD_SALT = 0xD1B54A32D192ED03L;
+
+    private ZobristKeys() {
+    }
+
+    //keys are derived from the cell and player so they stay the same between runs
+    public static long cellKey(final int size, final int cell, final int player) {
+        return mix(CELL_SALT ^ ((long) size << 48) ^ ((long) cell << 16) ^ player);
+    }
+
+    public static long playerKey(final int player) {
+        return mix(PLAYER_SALT ^ player);
+    }
+
+    //starting key of an empty board, so boards of different size or number of players never share keys
+    public static long boardKey(final int size, final int playerCount) {
+        return boardKey(size, size, playerCount);
+    }
+
+    //full line rules keep the keys they had before win lengths could be set, so existing opening books stay valid
+    public static long boardKey(final int size, final int winLength, final int playerCount) {
+        final long winLengthBits = winLength != size ? (long) winLength << 40 : 0;
+        return mix(BOARD_SALT ^ winLengthBits ^ ((long) size << 32) ^ playerCount);
+    }
+
+    private static long mix(final long seed) {
+        long z = seed + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
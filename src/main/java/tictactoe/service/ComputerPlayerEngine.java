@@ -1,13 +1,169 @@
 package tictactoe.service;
 
+import tictactoe.engine.EndgameSolver;
+import tictactoe.engine.OpeningBook;
+import tictactoe.engine.ProofNumberSearch;
+import tictactoe.engine.ProofResult;
+import tictactoe.engine.SearchEngine;
+import tictactoe.engine.SearchResult;
+import tictactoe.engine.Tablebase;
+import tictactoe.engine.TacticalAnalyzer;
 import tictactoe.model.Board;
 import tictactoe.model.BoardPosition;
+import tictactoe.model.Game;
+import tictactoe.model.GameState;
+import tictactoe.model.MutableBoard;
+import tictactoe.model.Player;
 import tictactoe.model.PlayerMove;
 import tictactoe.model.PlayerMove.PlayerMoveBuilder;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
-public class ComputerPlayerEngine {
+import static tictactoe.engine.SearchEngine.NO_DEADLINE;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.model.CellSet.NO_CELL;
+import static tictactoe.model.EngineConfiguration.DEFAULT_MOVE_TIMEOUT_MILLIS;
+
+public class ComputerPlayerEngine implements AutoCloseable {
+    private static final int STAGE_TIME_SHARE = 4;
+    private final SearchEngine searchEngine;
+    private final long moveTimeMillis;
+    private final OpeningBook openingBook;
+    private final Tablebase tablebase;
+    private final EndgameSolver endgameSolver;
+    private final ProofNumberSearch proofNumberSearch;
+    private final boolean deterministic;
+
+    public ComputerPlayerEngine() {
+        this(null, DEFAULT_MOVE_TIMEOUT_MILLIS);
+    }
+
+    public ComputerPlayerEngine(final SearchEngine searchEngine, final long moveTimeMillis) {
+        this(new ComputerPlayerEngineBuilder(searchEngine, moveTimeMillis));
+    }
+
+    private ComputerPlayerEngine(final ComputerPlayerEngineBuilder builder) {
+        this.searchEngine = builder.searchEngine;
+        this.moveTimeMillis = builder.moveTimeMillis;
+        this.openingBook = builder.openingBook;
+        this.tablebase = builder.tablebase;
+        this.endgameSolver = builder.endgameSolver;
+        this.proofNumberSearch = builder.proofNumberSearch;
+        this.deterministic = builder.deterministic;
+    }
+
+    public void newGame() {
+        clearIfDeterministic();
+        if (searchEngine != null) {
+            searchEngine.newGame();
+        }
+    }
+
+    public void newGame(final long seed) {
+        clearIfDeterministic();
+        if (searchEngine != null) {
+            searchEngine.newGame(seed);
+        }
+    }
+
+    //what is kept from earlier games depends on which games an engine played, so a deterministic engine starts empty
+    private void clearIfDeterministic() {
+        if (!deterministic) {
+            return;
+        }
+        if (searchEngine != null) {
+            searchEngine.clear();
+        }
+        if (endgameSolver != null) {
+            endgameSolver.clear();
+        }
+        if (proofNumberSearch != null) {
+            proofNumberSearch.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (searchEngine != null) {
+            searchEngine.close();
+        }
+    }
+
+    public PlayerMove getComputerPlayerMove(final Game game) {
+        if (searchEngine == null) {
+            return getComputerPlayerMove(game.getBoard());
+        }
+
+        final MutableBoard board = createSearchBoard(game);
+        if (game.isGameOver() || board.isGameOver()) {
+            throw new IllegalStateException("No available moves to make.");
+        }
+
+        return getComputerPlayerMove(board);
+    }
+
+    //searches straight on the game state board, its player to move is always the active player
+    public PlayerMove getComputerPlayerMove(final GameState gameState) {
+        if (gameState.isGameOver()) {
+            throw new IllegalStateException("No available moves to make.");
+        }
+        if (searchEngine == null) {
+            return getComputerPlayerMove(gameState.getBoard().toBoard());
+        }
+
+        return getComputerPlayerMove(gameState.getBoard());
+    }
+
+    private PlayerMove getComputerPlayerMove(final MutableBoard board) {
+        final long deadlineNanos = deadlineNanos();
+        final int bookMove = openingBook != null ? openingBook.findMove(board) : NO_MOVE;
+        if (bookMove != NO_MOVE && !board.isOccupied(bookMove)) {
+            return createPlayerMove(board, new SearchResult(bookMove, 0, 0, 0));
+        }
+
+        //positions in the tablebase are looked up instead of searched, its moves are perfect
+        final int tablebaseMove = tablebase != null ? tablebase.findMove(board) : NO_MOVE;
+        if (tablebaseMove != NO_MOVE) {
+            return createPlayerMove(board, new SearchResult(tablebaseMove, 0, board.getEmptyCount(), 0));
+        }
+
+        //close to the end the game is solved exactly, which beats both the tactics and the heuristic search,
+        //a solve that doesn't finish within a quarter of the move time leaves the move to the search
+        if (endgameSolver != null && endgameSolver.canSolve(board)) {
+            final Optional<SearchResult> solved = endgameSolver.solve(board, stageDeadlineNanos());
+            if (solved.isPresent()) {
+                return createPlayerMove(board, solved.get());
+            }
+        }
+
+        //wins, blocks and forks are played straight away without searching
+        final int tacticalMove = TacticalAnalyzer.findTacticalMove(board);
+        if (tacticalMove != NO_MOVE) {
+            return createPlayerMove(board, new SearchResult(tacticalMove, 0, 0, 0));
+        }
+
+        //a forced win proven within a quarter of the move time is played, the search gets the time that is left
+        if (proofNumberSearch != null) {
+            final ProofResult proof = proofNumberSearch.prove(board, stageDeadlineNanos());
+            if (proof.isProven()) {
+                return createPlayerMove(board, new SearchResult(proof.getWinningMove(), 0, 0, proof.getNodes()));
+            }
+        }
+
+        final SearchResult result = searchEngine.search(board, deadlineNanos);
+
+        return createPlayerMove(board, result, searchEngine.getPlayoutsPerSecond());
+    }
+
+    private long deadlineNanos() {
+        return deterministic ? NO_DEADLINE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeMillis);
+    }
+
+    private long stageDeadlineNanos() {
+        return deterministic ? NO_DEADLINE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(moveTimeMillis) / STAGE_TIME_SHARE;
+    }
 
     PlayerMove getComputerPlayerMove(final Board board) {
         final BoardPosition position = nextMove(board);
@@ -18,10 +174,88 @@ public class ComputerPlayerEngine {
         return new PlayerMoveBuilder().position(position).build();
     }
 
+    //the engine without search takes the first free cell in row order
     private BoardPosition nextMove(final Board board) {
-        final Set<BoardPosition> availablePositions = board.getAvailablePositions();
-        return availablePositions.stream()
-                                 .findAny()
-                                 .orElse(null);
+        final int cell = board.getAvailablePositions().nextCell(0);
+        return cell != NO_CELL ? BoardPosition.ofCell(cell, board.getSize()) : null;
+    }
+
+    private PlayerMove createPlayerMove(final MutableBoard board, final SearchResult result) {
+        return createPlayerMove(board, result, 0);
+    }
+
+    private PlayerMove createPlayerMove(final MutableBoard board, final SearchResult result, final double playoutsPerSecond) {
+        return new PlayerMoveBuilder().cell(result.getBestMove(), board.getSize())
+                                      .searchDepth(result.getDepth())
+                                      .searchNodes(result.getNodes())
+                                      .playoutsPerSecond(playoutsPerSecond)
+                                      .principalVariation(result.getPrincipalVariation(), board.getSize())
+                                      .build();
+    }
+
+    private MutableBoard createSearchBoard(final Game game) {
+        final Board board = game.getBoard();
+        final List<Player> playerList = game.getPlayerList();
+        final int playerCount = playerList.size();
+        final int moveCount = board.getSize() * board.getSize() - board.getAvailablePositions().size();
+
+        //rotate the marks so the search board's player to move is the active player
+        final int offset = Math.floorMod(game.getTurnCount() - moveCount, playerCount);
+        final char[] marks = new char[playerCount];
+        for (int player = 0; player < playerCount; player++) {
+            marks[player] = playerList.get((player + offset) % playerCount).getMark();
+        }
+
+        return new MutableBoard(board, marks);
+    }
+
+    //the stages the engine goes through before searching are all optional
+    public static class ComputerPlayerEngineBuilder {
+        private final SearchEngine searchEngine;
+        private final long moveTimeMillis;
+        private OpeningBook openingBook;
+        private Tablebase tablebase;
+        private EndgameSolver endgameSolver;
+        private ProofNumberSearch proofNumberSearch;
+        private boolean deterministic;
+
+        public ComputerPlayerEngineBuilder(final SearchEngine searchEngine, final long moveTimeMillis) {
+            if (moveTimeMillis <= 0) {
+                throw new IllegalArgumentException("Move time should be positive.");
+            }
+
+            this.searchEngine = searchEngine;
+            this.moveTimeMillis = moveTimeMillis;
+        }
+
+        public ComputerPlayerEngineBuilder openingBook(final OpeningBook openingBook) {
+            this.openingBook = openingBook;
+            return this;
+        }
+
+        public ComputerPlayerEngineBuilder tablebase(final Tablebase tablebase) {
+            this.tablebase = tablebase;
+            return this;
+        }
+
+        public ComputerPlayerEngineBuilder endgameSolver(final EndgameSolver endgameSolver) {
+            this.endgameSolver = endgameSolver;
+            return this;
+        }
+
+        public ComputerPlayerEngineBuilder proofNumberSearch(final ProofNumberSearch proofNumberSearch) {
+            this.proofNumberSearch = proofNumberSearch;
+            return this;
+        }
+
+        //the stages run without deadlines, so the search engine needs a depth or playout limit of its own
+        public ComputerPlayerEngineBuilder deterministic(final boolean deterministic) {
+            this.deterministic = deterministic;
+            return this;
+        }
+
+        public ComputerPlayerEngine build() {
+            return new ComputerPlayerEngine(this);
+        }
     }
 }
@@ -1,21 +1,44 @@
 package tictactoe.service;
 
+import tictactoe.engine.EndgameSolver;
+import tictactoe.model.EngineConfiguration;
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+import tictactoe.model.EngineType;
 import tictactoe.model.GameConfiguration;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 
+import static tictactoe.model.Board.MIN_WIN_LENGTH;
+import static tictactoe.model.EngineConfiguration.DEFAULT_ENDGAME_EMPTY_CELLS;
+import static tictactoe.model.EngineConfiguration.DEFAULT_MOVE_TIMEOUT_MILLIS;
+import static tictactoe.model.EngineConfiguration.DEFAULT_PARALLELISM;
+import static tictactoe.model.EngineConfiguration.DEFAULT_PROOF_NODE_LIMIT;
+import static tictactoe.model.EngineConfiguration.UNLIMITED_DEPTH;
+import static tictactoe.model.EngineConfiguration.UNLIMITED_PLAYOUTS;
 import static tictactoe.model.GameConfiguration.NUMBER_OF_PLAYERS;
 
 public class ConfigurationLoader {
     private static final String DEFAULT_CONFIGURATION_FILE = "application.properties";
     private static final String PLAYER_MARK_PREFIX = "player.mark.";
     private static final String PLAYGROUND_SIZE = "playground.size";
+    private static final String WIN_LENGTH = "win.length";
+    private static final String MOVE_TIMEOUT = "engine.move.timeout.ms";
+    private static final String ENGINE_PARALLELISM = "engine.parallelism";
+    private static final String ENGINE_TYPE = "engine.type";
+    private static final String MCTS_PLAYOUTS = "engine.mcts.playouts";
+    private static final String ENDGAME_EMPTY_CELLS = "engine.endgame.empty.cells";
+    private static final String PROOF_NODES = "engine.proof.nodes";
+    private static final String SEARCH_DEPTH = "engine.search.depth";
+    private static final String DETERMINISTIC = "engine.deterministic";
+    private static final int ENGINE_PARALLELISM_MAX = 256;
+    private static final int SEARCH_DEPTH_MAX = 100;
     private static final int PLAYGROUND_SIZE_MIN = 3;
     private static final int PLAYGROUND_SIZE_MAX = 10;
 
@@ -32,16 +55,50 @@ public class ConfigurationLoader {
     private Optional<GameConfiguration> loadGameConfigurationProperties(final Properties properties) {
         if (properties != null) {
             final Integer playgroundSize = getIntegerPlaygroundSize(properties.getProperty(PLAYGROUND_SIZE));
+            final Integer winLength = playgroundSize != null ? getIntegerWinLength(properties.getProperty(WIN_LENGTH), playgroundSize) : null;
             final Character[] playerMarks = getPlayerMarks(properties);
+            final EngineConfiguration engineConfiguration = getEngineConfiguration(properties);
 
-            if (playgroundSize != null && playerMarks.length == NUMBER_OF_PLAYERS) {
-                return Optional.of(new GameConfiguration(playerMarks, playgroundSize));
+            if (winLength != null && playerMarks.length == NUMBER_OF_PLAYERS && engineConfiguration != null) {
+                return Optional.of(new GameConfiguration(playerMarks, playgroundSize, winLength, engineConfiguration));
             }
         }
 
         return Optional.empty();
     }
 
+    private EngineConfiguration getEngineConfiguration(final Properties properties) {
+        final EngineType engineType = getEngineType(properties.getProperty(ENGINE_TYPE));
+        final Long moveTimeout = getLongMoveTimeout(properties.getProperty(MOVE_TIMEOUT));
+        final Integer engineParallelism = getIntegerEngineParallelism(properties.getProperty(ENGINE_PARALLELISM));
+        final Integer playoutLimit = getIntegerPlayoutLimit(properties.getProperty(MCTS_PLAYOUTS));
+        final Integer endgameEmptyCells = getIntegerEndgameEmptyCells(properties.getProperty(ENDGAME_EMPTY_CELLS));
+        final Integer proofNodeLimit = getIntegerProofNodeLimit(properties.getProperty(PROOF_NODES));
+        final Integer searchDepth = getIntegerSearchDepth(properties.getProperty(SEARCH_DEPTH));
+        final Boolean deterministic = getBooleanDeterministic(properties.getProperty(DETERMINISTIC));
+
+        if (engineType == null || moveTimeout == null || engineParallelism == null || playoutLimit == null || endgameEmptyCells == null
+                || proofNodeLimit == null || searchDepth == null || deterministic == null) {
+            return null;
+        }
+        if (deterministic && !EngineConfiguration.hasFixedLimits(engineType, searchDepth, engineParallelism, playoutLimit)) {
+            System.out.println();
+            System.err.println("Configuration file sets engine.deterministic, which needs engine.search.depth and engine.parallelism=1 "
+                                       + "for minimax or engine.mcts.playouts for mcts.");
+            return null;
+        }
+
+        return new EngineConfigurationBuilder().engineType(engineType)
+                                               .moveTimeoutMillis(moveTimeout)
+                                               .parallelism(engineParallelism)
+                                               .playoutLimit(playoutLimit)
+                                               .endgameEmptyCells(endgameEmptyCells)
+                                               .proofNodeLimit(proofNodeLimit)
+                                               .searchDepth(searchDepth)
+                                               .deterministic(deterministic)
+                                               .build();
+    }
+
     private Character[] getPlayerMarks(final Properties properties) {
         final Character[] playerMarks = new Character[NUMBER_OF_PLAYERS];
         final Set<Character> playerMarkSet = new HashSet<>();
@@ -81,6 +138,140 @@ public class ConfigurationLoader {
         return null;
     }
 
+    //without a win length a whole row, column or diagonal has to be filled
+    private Integer getIntegerWinLength(final String winLength, final int playgroundSize) {
+        if (winLength == null) {
+            return playgroundSize;
+        }
+        if (winLength.trim().matches("\\d{1,2}")) {
+            final Integer intWinLength = Integer.valueOf(winLength.trim());
+            if (intWinLength >= MIN_WIN_LENGTH && intWinLength <= playgroundSize) {
+                return intWinLength;
+            }
+        }
+
+        System.out.println();
+        System.err.printf("Configuration file doesn't contain a valid win.length between %d-%d.%n", MIN_WIN_LENGTH, playgroundSize);
+        return null;
+    }
+
+    private EngineType getEngineType(final String engineType) {
+        if (engineType == null) {
+            return EngineType.MINIMAX;
+        }
+        for (final EngineType type : EngineType.values()) {
+            if (type.name().equalsIgnoreCase(engineType.trim())) {
+                return type;
+            }
+        }
+
+        System.out.println();
+        System.err.printf("Configuration file doesn't contain a valid engine.type, expected one of %s.%n", Arrays.toString(EngineType.values()));
+        return null;
+    }
+
+    private Long getLongMoveTimeout(final String moveTimeout) {
+        if (moveTimeout == null) {
+            return DEFAULT_MOVE_TIMEOUT_MILLIS;
+        }
+        if (moveTimeout.trim().matches("\\d{1,9}") && Long.parseLong(moveTimeout.trim()) > 0) {
+            return Long.valueOf(moveTimeout.trim());
+        }
+
+        System.out.println();
+        System.err.println("Configuration file doesn't contain a valid positive engine.move.timeout.ms.");
+        return null;
+    }
+
+    private Integer getIntegerEngineParallelism(final String engineParallelism) {
+        if (engineParallelism == null) {
+            return DEFAULT_PARALLELISM;
+        }
+        if (engineParallelism.trim().matches("\\d{1,3}")) {
+            final Integer intEngineParallelism = Integer.valueOf(engineParallelism.trim());
+            if (intEngineParallelism >= 1 && intEngineParallelism <= ENGINE_PARALLELISM_MAX) {
+                return intEngineParallelism;
+            }
+        }
+
+        System.out.println();
+        System.err.printf("Configuration file doesn't contain a valid engine.parallelism between 1-%d.%n", ENGINE_PARALLELISM_MAX);
+        return null;
+    }
+
+    private Integer getIntegerPlayoutLimit(final String playoutLimit) {
+        if (playoutLimit == null) {
+            return UNLIMITED_PLAYOUTS;
+        }
+        if (playoutLimit.trim().matches("\\d{1,9}")) {
+            return Integer.valueOf(playoutLimit.trim());
+        }
+
+        System.out.println();
+        System.err.println("Configuration file doesn't contain a valid engine.mcts.playouts, 0 means only the move timeout limits the search.");
+        return null;
+    }
+
+    private Integer getIntegerEndgameEmptyCells(final String endgameEmptyCells) {
+        if (endgameEmptyCells == null) {
+            return DEFAULT_ENDGAME_EMPTY_CELLS;
+        }
+        if (endgameEmptyCells.trim().matches("\\d{1,2}")) {
+            final Integer intEndgameEmptyCells = Integer.valueOf(endgameEmptyCells.trim());
+            if (intEndgameEmptyCells <= EndgameSolver.MAX_CONFIGURED_EMPTY_CELLS) {
+                return intEndgameEmptyCells;
+            }
+        }
+
+        System.out.println();
+        System.err.printf("Configuration file doesn't contain a valid engine.endgame.empty.cells between 0-%d, 0 turns the endgame solver off.%n",
+                          EndgameSolver.MAX_CONFIGURED_EMPTY_CELLS);
+        return null;
+    }
+
+    private Integer getIntegerProofNodeLimit(final String proofNodeLimit) {
+        if (proofNodeLimit == null) {
+            return DEFAULT_PROOF_NODE_LIMIT;
+        }
+        if (proofNodeLimit.trim().matches("\\d{1,9}")) {
+            return Integer.valueOf(proofNodeLimit.trim());
+        }
+
+        System.out.println();
+        System.err.println("Configuration file doesn't contain a valid engine.proof.nodes, 0 turns the proof search off.");
+        return null;
+    }
+
+    private Integer getIntegerSearchDepth(final String searchDepth) {
+        if (searchDepth == null) {
+            return UNLIMITED_DEPTH;
+        }
+        if (searchDepth.trim().matches("\\d{1,3}")) {
+            final Integer intSearchDepth = Integer.valueOf(searchDepth.trim());
+            if (intSearchDepth <= SEARCH_DEPTH_MAX) {
+                return intSearchDepth;
+            }
+        }
+
+        System.out.println();
+        System.err.printf("Configuration file doesn't contain a valid engine.search.depth between 0-%d, 0 means only the move timeout limits the search.%n",
+                          SEARCH_DEPTH_MAX);
+        return null;
+    }
+
+    private Boolean getBooleanDeterministic(final String deterministic) {
+        if (deterministic == null) {
+            return false;
+        }
+        if (deterministic.trim().equalsIgnoreCase("true") || deterministic.trim().equalsIgnoreCase("false")) {
+            return Boolean.valueOf(deterministic.trim());
+        }
+
+        System.out.println();
+        System.err.println("Configuration file doesn't contain a valid engine.deterministic, expected true or false.");
+        return null;
+    }
+
     private Properties getCustomProperties(final String configurationFile) {
         final Properties externalProperties = readExternalPropertiesFile(configurationFile);
         if (externalProperties != null) {
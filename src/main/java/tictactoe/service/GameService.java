@@ -5,6 +5,7 @@ import tictactoe.model.BoardPosition;
 import tictactoe.model.Game;
 import tictactoe.model.Game.GameBuilder;
 import tictactoe.model.GameConfiguration;
+import tictactoe.model.GameState;
 import tictactoe.model.Player;
 import tictactoe.model.PlayerMove;
 import tictactoe.model.PlayerMove.PlayerMoveBuilder;
@@ -12,6 +13,7 @@ import tictactoe.model.PlayerMove.PlayerMoveBuilder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -30,10 +32,30 @@ public class GameService {
 
     public Game startNewGame() {
         final Character[] playerMarks = gameConfiguration.getPlayerMarks();
-        final List<Player> playerList = createPlayerList(playerMarks);
+        final List<Player> playerList = createPlayerList(playerMarks, new Random());
         final int boardSize = gameConfiguration.getPlaygroundSize();
+        computerPlayerEngine.newGame();
 
-        return new GameBuilder(new Board(boardSize), playerList).build();
+        return new GameBuilder(new Board(boardSize, gameConfiguration.getWinLength()), playerList).build();
+    }
+
+    public Game startNewComputerGame() {
+        return startNewComputerGame(new Random().nextLong());
+    }
+
+    //the same seed always gives the same player order, so simulated games can be replayed
+    public Game startNewComputerGame(final long seed) {
+        final List<Player> playerList = createComputerPlayerList(seed);
+        computerPlayerEngine.newGame(seed);
+
+        return new GameBuilder(new Board(gameConfiguration.getPlaygroundSize(), gameConfiguration.getWinLength()), playerList).build();
+    }
+
+    public GameState startNewComputerGameState(final long seed) {
+        final List<Player> playerList = createComputerPlayerList(seed);
+        computerPlayerEngine.newGame(seed);
+
+        return new GameState(gameConfiguration.getPlaygroundSize(), gameConfiguration.getWinLength(), playerList);
     }
 
     public PlayerMove nextPlayerMove(final Game game, final Supplier<String> humanInteraction) {
@@ -44,7 +66,7 @@ public class GameService {
             if (activePlayer.getPlayerType() == HUMAN) {
                 return getHumanPlayerMove(humanInteraction, board);
             }
-            return computerPlayerEngine.getComputerPlayerMove(board);
+            return computerPlayerEngine.getComputerPlayerMove(game);
         }
         return new PlayerMoveBuilder().build();
     }
@@ -66,6 +88,28 @@ public class GameService {
         return game;
     }
 
+    //in place variant of playerMakesMove, a valid move doesn't allocate anything
+    public void playerMakesMove(final GameState gameState, final BoardPosition position) {
+        if (!gameState.isGameOver()) {
+            final int row = position.getRow();
+            final int col = position.getCol();
+            final int size = gameState.getBoard().getSize();
+
+            if (row < 0 || row >= size || col < 0 || col >= size) {
+                throw new IllegalStateException(format("Position [%s][%s] is invalid.", row, col));
+            }
+            if (!gameState.isPositionAvailable(row, col)) {
+                throw new IllegalStateException(format("Position [%s][%s] is already occupied by another player.", row, col));
+            }
+
+            gameState.makeMove(row, col);
+        }
+    }
+
+    public void exitGame(final GameState gameState) {
+        gameState.escape();
+    }
+
     public Game exitGame(final Game game) {
         return new GameBuilder(game.getBoard(), game.getPlayerList())
                 .turnCount(game.getTurnCount())
@@ -73,7 +117,17 @@ public class GameService {
                 .build();
     }
 
-    private List<Player> createPlayerList(final Character[] playerMarks) {
+    private List<Player> createComputerPlayerList(final long seed) {
+        final List<Player> playerList = new ArrayList<>();
+        for (final Character playerMark : gameConfiguration.getPlayerMarks()) {
+            playerList.add(new Player(COMPUTER, playerMark));
+        }
+
+        Collections.shuffle(playerList, new Random(seed));
+        return playerList;
+    }
+
+    private List<Player> createPlayerList(final Character[] playerMarks, final Random random) {
         final List<Player> playerList = new ArrayList<>();
         playerList.add(new Player(COMPUTER, playerMarks[0]));
 
@@ -83,7 +137,7 @@ public class GameService {
                  .forEach(playerList::add);
 
         //randomize player list
-        Collections.shuffle(playerList);
+        Collections.shuffle(playerList, random);
         return playerList;
     }
 
@@ -105,7 +159,7 @@ public class GameService {
             final int col = Integer.valueOf(posDimensions[1]) - 1;
 
             if (board.isPositionValid(row, col) && !board.isPositionOccupied(row, col)) {
-                return new BoardPosition(row, col);
+                return BoardPosition.of(row, col);
             }
         }
 
@@ -123,9 +177,6 @@ public class GameService {
             throw new IllegalStateException(format("Position [%s][%s] is already occupied by another player.", row, col));
         }
 
-        final Character[][] boardGrid = board.getBoardGrid();
-        boardGrid[row][col] = mark;
-
-        return new Board(boardGrid);
+        return board.placeMark(row, col, mark);
     }
 }
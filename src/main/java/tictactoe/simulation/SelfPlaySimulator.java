@@ -0,0 +1,94 @@
+package tictactoe.simulation;
+
+import tictactoe.model.GameState;
+import tictactoe.model.PlayerMove;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.GameService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+public class SelfPlaySimulator {
+    private static final long GAME_SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+    private final GameService gameService;
+    private final Map<Character, ComputerPlayerEngine> enginesByMark;
+    private long playouts;
+    private long playoutNanos;
+
+    public SelfPlaySimulator(final GameService gameService, final Map<Character, ComputerPlayerEngine> enginesByMark) {
+        if (gameService == null || enginesByMark == null || enginesByMark.isEmpty()) {
+            throw new IllegalArgumentException("Invalid simulation parameters.");
+        }
+        this.gameService = gameService;
+        this.enginesByMark = new LinkedHashMap<>(enginesByMark);
+    }
+
+    public SimulationResult run(final int gameCount) {
+        return run(gameCount, new Random().nextLong());
+    }
+
+    public SimulationResult run(final int gameCount, final long seed) {
+        return runShard(gameCount, seed, 0, 1);
+    }
+
+    //plays the games numbered shard, shard + shardCount, ... of a simulation, each one with its own seed
+    SimulationResult runShard(final int gameCount, final long seed, final int shard, final int shardCount) {
+        if (gameCount < 1) {
+            throw new IllegalArgumentException("At least one game should be simulated.");
+        }
+
+        final Map<Character, Integer> winsByMark = new LinkedHashMap<>();
+        enginesByMark.keySet().forEach(mark -> winsByMark.put(mark, 0));
+        int playedCount = 0;
+        int draws = 0;
+        playouts = 0;
+        playoutNanos = 0;
+
+        final long startNanos = System.nanoTime();
+        for (int gameNo = shard; gameNo < gameCount; gameNo += shardCount) {
+            final GameState game = playGame(gameSeed(seed, gameNo));
+            if (game.getWinner() != null) {
+                winsByMark.merge(game.getWinner().getMark(), 1, Integer::sum);
+            } else {
+                draws++;
+            }
+            playedCount++;
+        }
+
+        return new SimulationResult(playedCount, winsByMark, draws, System.nanoTime() - startNanos, playouts, playoutNanos);
+    }
+
+    static long gameSeed(final long seed, final int gameNo) {
+        return seed + GAME_SEED_INCREMENT * gameNo;
+    }
+
+    private GameState playGame(final long gameSeed) {
+        final GameState gameState = gameService.startNewComputerGameState(gameSeed);
+        enginesByMark.values().forEach(computerPlayerEngine -> computerPlayerEngine.newGame(gameSeed));
+
+        while (!gameState.isGameOver()) {
+            final PlayerMove move = engineOf(gameState.getActivePlayer().getMark()).getComputerPlayerMove(gameState);
+            gameService.playerMakesMove(gameState, move.getPosition());
+            countPlayouts(move);
+        }
+        return gameState;
+    }
+
+    //the search time of a move is worked back from its playouts and their rate
+    private void countPlayouts(final PlayerMove move) {
+        if (move.getPlayoutsPerSecond() > 0) {
+            playouts += move.getSearchNodes();
+            playoutNanos += (long) (move.getSearchNodes() * TimeUnit.SECONDS.toNanos(1) / move.getPlayoutsPerSecond());
+        }
+    }
+
+    private ComputerPlayerEngine engineOf(final char mark) {
+        final ComputerPlayerEngine computerPlayerEngine = enginesByMark.get(mark);
+        if (computerPlayerEngine == null) {
+            throw new IllegalStateException("No engine configured for player '" + mark + "'.");
+        }
+        return computerPlayerEngine;
+    }
+}
@@ -0,0 +1,75 @@
+package tictactoe.simulation;
+
+import tictactoe.engine.SearchEngineFactory;
+import tictactoe.model.EngineConfiguration;
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+import tictactoe.model.EngineType;
+import tictactoe.model.GameConfiguration;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.ComputerPlayerEngine.ComputerPlayerEngineBuilder;
+import tictactoe.service.ConfigurationLoader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+//usage: SimulationApp <configuration file> <number of games> <threads> <seed> [engine type for each player, in player mark order]
+//the results only repeat for a seed when engine.deterministic is set, otherwise the moves depend on the clock
+public class SimulationApp {
+    private static final int DEFAULT_GAME_COUNT = 100;
+    private static final int DEFAULT_THREAD_COUNT = 1;
+    private static final int ENGINE_TYPES_ARGUMENT = 4;
+    //every worker has an engine per player, so their tables are kept small
+    private static final int TABLE_MEGABYTES = 4;
+
+    public static void main(final String[] args) {
+        final ConfigurationLoader configurationLoader = new ConfigurationLoader();
+        final Optional<GameConfiguration> gameConfiguration = args.length > 0 ? configurationLoader.loadGameConfiguration(args[0])
+                                                                               : configurationLoader.loadGameConfiguration();
+        final int gameCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GAME_COUNT;
+        final int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_THREAD_COUNT;
+        final long seed = args.length > 3 ? Long.parseLong(args[3]) : new Random().nextLong();
+
+        if (gameConfiguration.isPresent()) {
+            final TournamentRunner tournamentRunner = new TournamentRunner(gameConfiguration.get(),
+                                                                           () -> createEngines(gameConfiguration.get(), args),
+                                                                           threadCount);
+            final SimulationResult result = tournamentRunner.run(gameCount, seed);
+
+            System.out.printf("Seed: %d, games: %d, draws: %d, wins: %s, games per second: %.2f, playouts per second: %.2f%n",
+                              seed, result.getGameCount(), result.getDraws(), result.getWinsByMark(), result.getGamesPerSecond(),
+                              result.getPlayoutsPerSecond());
+        }
+    }
+
+    private static Map<Character, ComputerPlayerEngine> createEngines(final GameConfiguration gameConfiguration, final String[] args) {
+        final EngineConfiguration engineConfiguration = gameConfiguration.getEngineConfiguration();
+        final Character[] playerMarks = gameConfiguration.getPlayerMarks();
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+
+        for (int playerNo = 0; playerNo < playerMarks.length; playerNo++) {
+            final String engineType = args.length > playerNo + ENGINE_TYPES_ARGUMENT ? args[playerNo + ENGINE_TYPES_ARGUMENT] : null;
+            final EngineConfiguration playerConfiguration = engineType != null
+                    ? new EngineConfigurationBuilder().engineType(EngineType.valueOf(engineType.toUpperCase()))
+                                                      .moveTimeoutMillis(engineConfiguration.getMoveTimeoutMillis())
+                                                      .parallelism(engineConfiguration.getParallelism())
+                                                      .playoutLimit(engineConfiguration.getPlayoutLimit())
+                                                      .endgameEmptyCells(engineConfiguration.getEndgameEmptyCells())
+                                                      .proofNodeLimit(engineConfiguration.getProofNodeLimit())
+                                                      .searchDepth(engineConfiguration.getSearchDepth())
+                                                      .deterministic(engineConfiguration.isDeterministic())
+                                                      .build()
+                    : engineConfiguration;
+
+            enginesByMark.put(playerMarks[playerNo],
+                              new ComputerPlayerEngineBuilder(SearchEngineFactory.createSearchEngine(playerConfiguration, TABLE_MEGABYTES),
+                                                              playerConfiguration.getMoveTimeoutMillis())
+                                      .endgameSolver(SearchEngineFactory.createEndgameSolver(playerConfiguration, TABLE_MEGABYTES))
+                                      .proofNumberSearch(SearchEngineFactory.createProofNumberSearch(playerConfiguration, TABLE_MEGABYTES))
+                                      .deterministic(playerConfiguration.isDeterministic())
+                                      .build());
+        }
+        return enginesByMark;
+    }
+}
@@ -0,0 +1,88 @@
+package tictactoe.simulation;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class SimulationResult {
+    private final int gameCount;
+    private final Map<Character, Integer> winsByMark;
+    private final int draws;
+    private final long elapsedNanos;
+    private final long playouts;
+    private final long playoutNanos;
+
+    public SimulationResult(final int gameCount, final Map<Character, Integer> winsByMark, final int draws, final long elapsedNanos) {
+        this(gameCount, winsByMark, draws, elapsedNanos, 0, 0);
+    }
+
+    //the playouts of the moves searched by playing random games out, and the time the searches took
+    public SimulationResult(final int gameCount, final Map<Character, Integer> winsByMark, final int draws, final long elapsedNanos,
+                            final long playouts, final long playoutNanos) {
+        this.gameCount = gameCount;
+        this.winsByMark = Collections.unmodifiableMap(new LinkedHashMap<>(winsByMark));
+        this.draws = draws;
+        this.elapsedNanos = elapsedNanos;
+        this.playouts = playouts;
+        this.playoutNanos = playoutNanos;
+    }
+
+    //results of simulations run side by side, the elapsed time is the wall time of all of them
+    static SimulationResult combine(final List<SimulationResult> results, final long elapsedNanos) {
+        final Map<Character, Integer> winsByMark = new LinkedHashMap<>();
+        int gameCount = 0;
+        int draws = 0;
+        long playouts = 0;
+        long playoutNanos = 0;
+        for (final SimulationResult result : results) {
+            gameCount += result.gameCount;
+            draws += result.draws;
+            playouts += result.playouts;
+            playoutNanos += result.playoutNanos;
+            result.winsByMark.forEach((mark, wins) -> winsByMark.merge(mark, wins, Integer::sum));
+        }
+        return new SimulationResult(gameCount, winsByMark, draws, elapsedNanos, playouts, playoutNanos);
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public int getWins(final char mark) {
+        return winsByMark.getOrDefault(mark, 0);
+    }
+
+    public Map<Character, Integer> getWinsByMark() {
+        return winsByMark;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return gameCount * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+    }
+
+    //playouts per second of a single search, 0 when no move was searched by playing random games out
+    public double getPlayoutsPerSecond() {
+        return playouts * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(1, playoutNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationResult{" +
+                "gameCount=" + gameCount +
+                ", winsByMark=" + winsByMark +
+                ", draws=" + draws +
+                ", gamesPerSecond=" + String.format("%.2f", getGamesPerSecond()) +
+                ", playoutsPerSecond=" + String.format("%.2f", getPlayoutsPerSecond()) +
+                '}';
+    }
+}
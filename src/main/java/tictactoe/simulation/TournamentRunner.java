@@ -0,0 +1,76 @@
+package tictactoe.simulation;
+
+import tictactoe.model.GameConfiguration;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.GameService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+//every worker plays its own share of the games with its own GameService and engines, nothing is shared
+//between workers until their results are combined at the end
+public class TournamentRunner {
+    private final GameConfiguration gameConfiguration;
+    private final Supplier<Map<Character, ComputerPlayerEngine>> engineSupplier;
+    private final int threadCount;
+
+    public TournamentRunner(final GameConfiguration gameConfiguration, final Supplier<Map<Character, ComputerPlayerEngine>> engineSupplier,
+                            final int threadCount) {
+        if (gameConfiguration == null || engineSupplier == null || threadCount < 1) {
+            throw new IllegalArgumentException("Invalid tournament parameters.");
+        }
+        this.gameConfiguration = gameConfiguration;
+        this.engineSupplier = engineSupplier;
+        this.threadCount = threadCount;
+    }
+
+    public SimulationResult run(final int gameCount, final long seed) {
+        if (gameCount < 1) {
+            throw new IllegalArgumentException("At least one game should be simulated.");
+        }
+
+        final int workerCount = Math.min(threadCount, gameCount);
+        final List<Callable<SimulationResult>> workers = new ArrayList<>();
+        for (int shard = 0; shard < workerCount; shard++) {
+            final int workerShard = shard;
+            workers.add(() -> runWorker(gameCount, seed, workerShard, workerCount));
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(workerCount);
+        try {
+            final long startNanos = System.nanoTime();
+            final List<SimulationResult> results = new ArrayList<>();
+            for (final Future<SimulationResult> future : executorService.invokeAll(workers)) {
+                results.add(future.get());
+            }
+            return SimulationResult.combine(results, System.nanoTime() - startNanos);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tournament was interrupted.", exception);
+        } catch (final ExecutionException exception) {
+            throw new IllegalStateException("Tournament worker failed.", exception.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    //the service only deals the players and never asks its engine for a move, so it gets one without search
+    //instead of a player's engine, which would be seeded twice for every game, the players' engines are closed
+    //when the worker is done so their threads don't outlive the tournament
+    private SimulationResult runWorker(final int gameCount, final long seed, final int shard, final int shardCount) {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = engineSupplier.get();
+        try {
+            final GameService gameService = new GameService(gameConfiguration, new ComputerPlayerEngine());
+            return new SelfPlaySimulator(gameService, enginesByMark).runShard(gameCount, seed, shard, shardCount);
+        } finally {
+            enginesByMark.values().forEach(ComputerPlayerEngine::close);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class EndgameSolverTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final char[] TWO_MARKS = {'O', 'X'};
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 2;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createSolverInvalidEmptyCells() {
+        new EndgameSolver(EndgameSolver.MAX_EMPTY_CELLS + 1);
+    }
+
+    @Test
+    public void canSolveBelowThreshold() {
+        final EndgameSolver endgameSolver = new EndgameSolver(5, 1);
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0);
+        board.makeMove(4);
+        board.makeMove(8);
+        assertFalse(endgameSolver.canSolve(board));
+
+        board.makeMove(1);
+        assertTrue(endgameSolver.canSolve(board));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void solveAboveThreshold() {
+        new EndgameSolver(5, 1).solve(new MutableBoard(3, MARKS), System.nanoTime() + NO_DEADLINE);
+    }
+
+    @Test
+    public void solveForcesWinWithFork() {
+        final MutableBoard board = new MutableBoard(3, TWO_MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(0, 1, 'X');
+        board.makeMove(1, 1, 'O');
+        board.makeMove(2, 2, 'X');
+
+        final SearchResult result = new EndgameSolver(5, 1).solve(board, System.nanoTime() + NO_DEADLINE).get();
+
+        assertThat(result.getBestMove(), is(3));
+        assertThat(result.getScore(), is(MinimaxSearch.WIN_SCORE));
+        assertThat(result.getDepth(), is(5));
+        assertThat(board.getMoveCount(), is(4));
+    }
+
+    @Test
+    public void solveStopsAtDeadline() {
+        final MutableBoard board = new MutableBoard(6, 4, MARKS);
+        for (final int cell : new int[] {0, 5, 30, 35, 14, 21, 15, 20, 2, 33, 12, 23, 3, 32, 8, 27, 1, 34, 7, 28}) {
+            board.makeMove(cell);
+        }
+
+        final Optional<SearchResult> result = new EndgameSolver(16, 1).solve(board, System.nanoTime());
+
+        assertFalse(result.isPresent());
+        assertThat(board.getMoveCount(), is(20));
+    }
+
+    @Test
+    public void solveAgreesWithMinimax() {
+        final Random random = new Random(7);
+        final EndgameSolver endgameSolver = new EndgameSolver(10, 1);
+
+        for (int game = 0; game < 30; game++) {
+            final MutableBoard board = new MutableBoard(4, game % 2 == 0 ? MARKS : TWO_MARKS);
+            while (!board.isGameOver() && board.getEmptyCount() > 10) {
+                final int cell = random.nextInt(16);
+                if (!board.isOccupied(cell)) {
+                    board.makeMove(cell);
+                }
+            }
+            if (board.isGameOver()) {
+                continue;
+            }
+
+            final SearchResult solved = endgameSolver.solve(board, System.nanoTime() + NO_DEADLINE).get();
+            final SearchResult searched = new MinimaxSearch().search(board, System.nanoTime() + NO_DEADLINE);
+
+            assertThat(Integer.signum(solved.getScore()), is(Integer.signum(searched.getScore())));
+            assertFalse(board.isOccupied(solved.getBestMove()));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class EvaluationTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Test
+    public void evaluateEmptyBoard() {
+        assertThat(Evaluation.evaluate(new MutableBoard(5, 4, MARKS), 0), is(0));
+    }
+
+    @Test
+    public void evaluateFavoursOpenLines() {
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(1, 1, 'O');
+        board.makeMove(1, 2, 'O');
+        board.makeMove(4, 0, 'X');
+
+        assertThat(Evaluation.evaluate(board, 0) > 0, is(true));
+        assertThat(Evaluation.evaluate(board, 1) < 0, is(true));
+        assertThat(Evaluation.evaluate(board, 0), is(board.getLineScore(0) - board.getLineScore(1) - board.getLineScore(2)));
+    }
+
+    @Test
+    public void evaluateBlockedLine() {
+        final MutableBoard board = new MutableBoard(4, 4, MARKS);
+        board.makeMove(0, 0, 'O');
+        final int openScore = board.getLineScore(0);
+
+        board.makeMove(0, 3, 'X');
+
+        assertThat(board.getLineScore(0) < openScore, is(true));
+        board.undoMove();
+        assertThat(board.getLineScore(0), is(openScore));
+    }
+}
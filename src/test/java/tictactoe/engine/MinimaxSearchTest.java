@@ -0,0 +1,207 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MinimaxSearchTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 2;
+
+    @Test
+    public void searchTakesImmediateWin() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(2, 0, 'A');
+        board.makeMove(0, 1, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 2, 'A');
+
+        final SearchResult result = search(new MinimaxSearch(), board);
+
+        assertThat(result.getBestMove(), is(2));
+        assertTrue(result.getScore() > 0);
+    }
+
+    @Test
+    public void searchBlocksNextPlayerWin() {
+        final MutableBoard board = new MutableBoard(4, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(3, 3, 'A');
+        board.makeMove(2, 2, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(0, 3, 'A');
+        board.makeMove(3, 0, 'O');
+        board.makeMove(1, 2, 'X');
+        board.makeMove(0, 2, 'A');
+
+        final SearchResult result = search(new MinimaxSearch(2), board);
+
+        assertThat(result.getBestMove(), is(7));
+        assertThat(result.getDepth(), is(2));
+    }
+
+    @Test
+    public void searchLeavesBoardUntouched() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(1, 1, 'O');
+
+        search(new MinimaxSearch(), board);
+
+        assertThat(board.getMoveCount(), is(1));
+        assertThat(board.toBoard().getAvailablePositions().size(), is(8));
+    }
+
+    @Test
+    public void searchAfterDeadlineReturnsAvailableMove() {
+        final MutableBoard board = new MutableBoard(10, MARKS);
+        board.makeMove(4, 4, 'O');
+
+        final SearchResult result = new MinimaxSearch().search(board, System.nanoTime());
+
+        assertFalse(board.isOccupied(result.getBestMove()));
+    }
+
+    @Test
+    public void searchDeepensUntilDeadline() {
+        final MutableBoard board = new MutableBoard(6, MARKS);
+        board.makeMove(2, 2, 'O');
+
+        final SearchResult result = new MinimaxSearch().search(board, System.nanoTime() + 100_000_000L);
+
+        assertTrue(result.getDepth() >= 2);
+        assertTrue(result.getDepth() < board.getEmptyCount());
+        assertFalse(board.isOccupied(result.getBestMove()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void searchGameOver() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(0, 1, 'O');
+        board.makeMove(0, 2, 'O');
+
+        search(new MinimaxSearch(), board);
+    }
+
+    @Test
+    public void searchReusesTableUntilNewGame() {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch(5);
+        final MutableBoard board = new MutableBoard(4, MARKS);
+        board.makeMove(1, 1, 'O');
+
+        final SearchResult firstResult = search(minimaxSearch, board);
+        final SearchResult repeatedResult = search(minimaxSearch, board);
+        minimaxSearch.newGame();
+        final SearchResult freshResult = search(minimaxSearch, board);
+
+        assertThat(repeatedResult.getBestMove(), is(firstResult.getBestMove()));
+        assertThat(repeatedResult.getScore(), is(firstResult.getScore()));
+        assertTrue(repeatedResult.getNodes() < firstResult.getNodes());
+        assertThat(freshResult.getNodes(), is(firstResult.getNodes()));
+    }
+
+    @Test
+    public void searchReusesSolvedPositionsAcrossGames() {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch();
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        final MutableBoard reflectedBoard = new MutableBoard(3, MARKS);
+        reflectedBoard.makeMove(2, 0, 'O');
+
+        final SearchResult firstResult = search(minimaxSearch, board);
+        minimaxSearch.newGame();
+        final SearchResult reflectedResult = search(minimaxSearch, reflectedBoard);
+
+        assertThat(reflectedResult.getScore(), is(firstResult.getScore()));
+        assertTrue(reflectedResult.getNodes() < firstResult.getNodes() / 10);
+        assertFalse(reflectedBoard.isOccupied(reflectedResult.getBestMove()));
+    }
+
+    @Test
+    public void searchReturnsPrincipalVariation() {
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(2, 2, 'O');
+
+        final SearchResult result = search(new MinimaxSearch(4), board);
+        final int[] principalVariation = result.getPrincipalVariation();
+
+        assertThat(principalVariation[0], is(result.getBestMove()));
+        assertTrue(principalVariation.length <= 4);
+        for (final int cell : principalVariation) {
+            assertFalse(board.isOccupied(cell));
+            board.makeMove(cell);
+        }
+        for (int move = 0; move < principalVariation.length; move++) {
+            board.undoMove();
+        }
+        assertThat(board.getMoveCount(), is(1));
+    }
+
+    @Test
+    public void searchFollowsPrincipalVariationOfLastSearch() {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch(3);
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(2, 2, 'O');
+        final int[] principalVariation = search(minimaxSearch, board).getPrincipalVariation();
+
+        board.makeMove(principalVariation[0]);
+        board.makeMove(principalVariation[1]);
+        board.makeMove(principalVariation[2]);
+        final SearchResult result = search(minimaxSearch, board);
+
+        assertThat(result.getPrincipalVariation()[0], is(result.getBestMove()));
+        assertThat(minimaxSearch.getPrincipalVariation(), is(result.getPrincipalVariation()));
+        minimaxSearch.newGame();
+        assertThat(minimaxSearch.getPrincipalVariation().length, is(0));
+    }
+
+    @Test
+    public void principalVariationContinuesOnRebuiltBoard() {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch(3);
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(2, 2, 'O');
+        board.makeMove(0, 0, 'X');
+        final int[] principalVariation = search(minimaxSearch, board).getPrincipalVariation();
+        board.makeMove(principalVariation[0]);
+        board.makeMove(principalVariation[1]);
+
+        //the same position with the moves in row order, like a board created from a game
+        final MutableBoard rebuiltBoard = new MutableBoard(board.toBoard(), MARKS);
+        minimaxSearch.continuePrincipalVariation(rebuiltBoard);
+
+        assertThat(minimaxSearch.getPrincipalVariation(), is(Arrays.copyOfRange(principalVariation, 2, principalVariation.length)));
+    }
+
+    @Test
+    public void principalVariationDroppedOnOtherPosition() {
+        final MinimaxSearch minimaxSearch = new MinimaxSearch(3);
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(2, 2, 'O');
+        final int[] principalVariation = search(minimaxSearch, board).getPrincipalVariation();
+        final int otherMove = principalVariation[0] == 0 ? 1 : 0;
+        board.makeMove(otherMove);
+
+        minimaxSearch.continuePrincipalVariation(board);
+
+        assertThat(minimaxSearch.getPrincipalVariation().length, is(0));
+    }
+
+    @Test
+    public void cellOrderStartsAtCenter() {
+        assertThat(MinimaxSearch.cellOrder(3)[0], is(4));
+        assertThat(MinimaxSearch.cellOrder(4).length, is(16));
+    }
+
+    private SearchResult search(final SearchEngine searchEngine, final MutableBoard board) {
+        return searchEngine.search(board, System.nanoTime() + NO_DEADLINE);
+    }
+}
@@ -0,0 +1,96 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MonteCarloSearchTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 2;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createInvalidPlayoutLimit() {
+        new MonteCarloSearch(-1);
+    }
+
+    @Test
+    public void searchTakesImmediateWin() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(2, 0, 'A');
+        board.makeMove(0, 1, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 2, 'A');
+
+        final SearchResult result = search(new MonteCarloSearch(2000, 1 << 12, 7), board);
+
+        assertThat(result.getBestMove(), is(2));
+    }
+
+    @Test
+    public void searchStopsAtPlayoutLimit() {
+        final MonteCarloSearch monteCarloSearch = new MonteCarloSearch(500, 1 << 12, 7);
+        final MutableBoard board = new MutableBoard(5, MARKS);
+
+        final SearchResult result = search(monteCarloSearch, board);
+
+        assertThat(result.getNodes(), is(500L));
+        assertThat(board.getMoveCount(), is(0));
+        assertTrue(monteCarloSearch.getPlayoutsPerSecond() > 0);
+    }
+
+    @Test
+    public void searchSameSeedSameMove() {
+        final MutableBoard board = new MutableBoard(6, MARKS);
+        board.makeMove(2, 3, 'O');
+
+        final SearchResult result = search(new MonteCarloSearch(3000, 1 << 14, 11), board);
+        final SearchResult otherResult = search(new MonteCarloSearch(3000, 1 << 14, 11), board);
+
+        assertThat(otherResult.getBestMove(), is(result.getBestMove()));
+        assertThat(otherResult.getScore(), is(result.getScore()));
+    }
+
+    @Test
+    public void searchReusesTreeAfterOtherPlayersMove() {
+        final MonteCarloSearch monteCarloSearch = new MonteCarloSearch(20000, 1 << 20, 3);
+        final MutableBoard board = new MutableBoard(4, MARKS);
+
+        final SearchResult result = search(monteCarloSearch, board);
+        board.makeMove(result.getBestMove());
+        board.makeMove(0);
+        board.makeMove(15);
+        search(monteCarloSearch, board);
+
+        assertTrue(monteCarloSearch.getRootVisits() > 20000);
+
+        monteCarloSearch.newGame();
+        search(monteCarloSearch, board);
+
+        assertThat(monteCarloSearch.getRootVisits(), is(20000));
+    }
+
+    @Test
+    public void searchAfterDeadlineReturnsAvailableMove() {
+        final MutableBoard board = new MutableBoard(10, MARKS);
+        board.makeMove(4, 4, 'O');
+
+        final SearchResult result = new MonteCarloSearch().search(board, System.nanoTime());
+
+        assertFalse(board.isOccupied(result.getBestMove()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void searchTreeTooSmall() {
+        search(new MonteCarloSearch(10, 5, 1), new MutableBoard(3, MARKS));
+    }
+
+    private SearchResult search(final SearchEngine searchEngine, final MutableBoard board) {
+        return searchEngine.search(board, System.nanoTime() + NO_DEADLINE);
+    }
+}
@@ -0,0 +1,64 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class MoveOrderingTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Test
+    public void centerFirstOnEmptyBoard() {
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final MutableBoard board = new MutableBoard(5, MARKS);
+
+        final int moveCount = moveOrdering.generateMoves(board, 0, NO_MOVE);
+
+        assertThat(moveCount, is(25));
+        assertThat(moveOrdering.nextMove(0, 0, moveCount), is(12));
+    }
+
+    @Test
+    public void tableMoveFirst() {
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final MutableBoard board = new MutableBoard(5, MARKS);
+
+        final int moveCount = moveOrdering.generateMoves(board, 0, 24);
+
+        assertThat(moveOrdering.nextMove(0, 0, moveCount), is(24));
+        assertThat(moveOrdering.nextMove(0, 1, moveCount), is(12));
+    }
+
+    @Test
+    public void skipsOccupiedCells() {
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(4);
+        board.makeMove(0);
+
+        final int moveCount = moveOrdering.generateMoves(board, 2, NO_MOVE);
+
+        assertThat(moveCount, is(7));
+        for (int index = 0; index < moveCount; index++) {
+            assertThat(board.isOccupied(moveOrdering.nextMove(2, index, moveCount)), is(false));
+        }
+    }
+
+    @Test
+    public void historyOrdersMovesUntilReset() {
+        final MoveOrdering moveOrdering = new MoveOrdering();
+        final MutableBoard board = new MutableBoard(5, MARKS);
+        moveOrdering.generateMoves(board, 3, NO_MOVE);
+        moveOrdering.recordCutoff(board, 3, 0, 20);
+
+        int moveCount = moveOrdering.generateMoves(board, 1, NO_MOVE);
+        assertThat(moveOrdering.nextMove(1, 0, moveCount), is(0));
+
+        moveOrdering.reset();
+        moveCount = moveOrdering.generateMoves(board, 1, NO_MOVE);
+        assertThat(moveOrdering.nextMove(1, 0, moveCount), is(12));
+    }
+}
@@ -0,0 +1,88 @@
+package tictactoe.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import tictactoe.model.MutableBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class OpeningBookTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void generateAndLoad() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("test.book").toPath();
+
+        final int entryCount = new OpeningBookGenerator(3, 2, 1000).generate(bookFile, 3, 3);
+        final Optional<OpeningBook> openingBook = OpeningBook.load(bookFile);
+
+        assertTrue(openingBook.isPresent());
+        assertThat(openingBook.get().size(), is(entryCount));
+        assertThat(entryCount, is(4));
+    }
+
+    @Test
+    public void findMoveOnSymmetricPosition() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("test.book").toPath();
+        new OpeningBookGenerator(3, 2, 1000).generate(bookFile, 3, 3);
+        final OpeningBook openingBook = OpeningBook.load(bookFile).get();
+
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        final MutableBoard rotatedBoard = new MutableBoard(3, MARKS);
+        rotatedBoard.makeMove(2, 2, 'O');
+
+        final int move = openingBook.findMove(board);
+        final int rotatedMove = openingBook.findMove(rotatedBoard);
+
+        assertThat(move, is(4));
+        assertThat(rotatedMove, is(4));
+    }
+
+    @Test
+    public void findMoveOutOfBook() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("test.book").toPath();
+        new OpeningBookGenerator(3, 1, 1000).generate(bookFile, 3, 3);
+        final OpeningBook openingBook = OpeningBook.load(bookFile).get();
+
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(1, 1, 'O');
+        final MutableBoard largerBoard = new MutableBoard(4, MARKS);
+
+        assertThat(openingBook.findMove(board), is(NO_MOVE));
+        assertThat(openingBook.findMove(largerBoard), is(NO_MOVE));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void generateStopsOnUnsolvedPosition() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("unsolved.book").toPath();
+
+        new OpeningBookGenerator(3, 1, 1).generate(bookFile, 7, 7);
+    }
+
+    @Test
+    public void loadCorruptBook() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("corrupt.book").toPath();
+        Files.write(bookFile, new byte[] {1, 2, 3, 4, 5});
+
+        assertFalse(OpeningBook.load(bookFile).isPresent());
+    }
+
+    @Test
+    public void loadMissingBook() {
+        assertFalse(OpeningBook.load(temporaryFolder.getRoot().toPath().resolve("missing.book")).isPresent());
+    }
+}
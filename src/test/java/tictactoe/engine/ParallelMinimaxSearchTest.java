@@ -0,0 +1,88 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class ParallelMinimaxSearchTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final long NO_DEADLINE = Long.MAX_VALUE / 2;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createInvalidParallelism() {
+        new ParallelMinimaxSearch(0);
+    }
+
+    @Test
+    public void searchMatchesSingleThreadedSearchAtFixedDepth() {
+        for (int depth = 1; depth <= 4; depth++) {
+            final MutableBoard board = new MutableBoard(5, MARKS);
+            board.makeMove(2, 2, 'O');
+            board.makeMove(1, 1, 'X');
+            board.makeMove(1, 2, 'A');
+
+            final SearchResult result = new MinimaxSearch(depth).search(board, System.nanoTime() + NO_DEADLINE);
+            final SearchResult parallelResult = new ParallelMinimaxSearch(4, depth, 1).search(board, System.nanoTime() + NO_DEADLINE);
+
+            assertThat(parallelResult.getBestMove(), is(result.getBestMove()));
+            assertThat(parallelResult.getScore(), is(result.getScore()));
+            assertThat(parallelResult.getDepth(), is(depth));
+        }
+    }
+
+    @Test
+    public void searchMatchesSingleThreadedSearchAlongGame() {
+        final int depth = 3;
+        final MinimaxSearch minimaxSearch = new MinimaxSearch(depth);
+        final ParallelMinimaxSearch parallelSearch = new ParallelMinimaxSearch(4, depth, 1);
+        final MutableBoard board = new MutableBoard(6, 4, MARKS);
+
+        //the later searches start from the principal variation of the earlier ones, the empty board has many ties
+        for (int move = 0; move < 8 && !board.isGameOver(); move++) {
+            final SearchResult result = minimaxSearch.search(board, System.nanoTime() + NO_DEADLINE);
+            final SearchResult parallelResult = parallelSearch.search(board, System.nanoTime() + NO_DEADLINE);
+
+            assertThat(parallelResult.getBestMove(), is(result.getBestMove()));
+            assertThat(parallelResult.getScore(), is(result.getScore()));
+            board.makeMove(result.getBestMove());
+        }
+    }
+
+    @Test
+    public void searchSolvesSmallBoard() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(2, 0, 'A');
+        board.makeMove(0, 1, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 2, 'A');
+
+        final SearchResult result = new ParallelMinimaxSearch(2).search(board, System.nanoTime() + NO_DEADLINE);
+
+        assertThat(result.getBestMove(), is(2));
+    }
+
+    @Test
+    public void searchAfterDeadlineReturnsAvailableMove() {
+        final MutableBoard board = new MutableBoard(10, MARKS);
+        board.makeMove(4, 4, 'O');
+
+        final SearchResult result = new ParallelMinimaxSearch(2).search(board, System.nanoTime());
+
+        assertFalse(board.isOccupied(result.getBestMove()));
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void searchAfterCloseIsRejected() {
+        final ParallelMinimaxSearch parallelSearch = new ParallelMinimaxSearch(2, 3, 1);
+        parallelSearch.close();
+
+        parallelSearch.search(new MutableBoard(4, MARKS), System.nanoTime() + NO_DEADLINE);
+    }
+}
@@ -0,0 +1,103 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class ProofNumberSearchTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final char[] TWO_MARKS = {'O', 'X'};
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createSearchInvalidNodeLimit() {
+        new ProofNumberSearch(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void proveFinishedGame() {
+        final MutableBoard board = new MutableBoard(3, TWO_MARKS);
+        for (final int cell : new int[] {0, 3, 1, 4, 2}) {
+            board.makeMove(cell);
+        }
+
+        new ProofNumberSearch(100, 1).prove(board, NO_DEADLINE);
+    }
+
+    @Test
+    public void proveImmediateWin() {
+        final MutableBoard board = new MutableBoard(5, 4, TWO_MARKS);
+        for (final int cell : new int[] {6, 0, 7, 9, 8, 20}) {
+            board.makeMove(cell);
+        }
+
+        final ProofResult result = new ProofNumberSearch(100, 1).prove(board, NO_DEADLINE);
+
+        assertThat(result.getStatus(), is(ProofResult.Status.PROVEN));
+        assertThat(result.getWinningMove(), is(5));
+        assertThat(result.getNodes(), is(1L));
+    }
+
+    @Test
+    public void proveFirstPlayerWinsThreeInRowOnFourByFour() {
+        final MutableBoard board = new MutableBoard(4, 3, TWO_MARKS);
+
+        final ProofResult result = new ProofNumberSearch(100_000, 1).prove(board, NO_DEADLINE);
+
+        assertThat(result.getStatus(), is(ProofResult.Status.PROVEN));
+        board.makeMove(result.getWinningMove());
+        assertThat(new EndgameSolver(15, 1).solve(board, NO_DEADLINE).get().getScore(), is(-MinimaxSearch.WIN_SCORE));
+    }
+
+    @Test
+    public void disproveDrawnGame() {
+        final ProofResult result = new ProofNumberSearch(100_000, 1).prove(new MutableBoard(3, TWO_MARKS), NO_DEADLINE);
+
+        assertThat(result.getStatus(), is(ProofResult.Status.DISPROVEN));
+        assertThat(result.getWinningMove(), is(NO_MOVE));
+    }
+
+    @Test
+    public void proveStopsAtNodeLimit() {
+        final ProofResult result = new ProofNumberSearch(500, 1).prove(new MutableBoard(6, 4, TWO_MARKS), NO_DEADLINE);
+
+        assertThat(result.getStatus(), is(ProofResult.Status.UNKNOWN));
+        assertThat(result.getNodes(), lessThanOrEqualTo(500L));
+    }
+
+    @Test
+    public void proveAgreesWithEndgameSolver() {
+        final Random random = new Random(11);
+        final ProofNumberSearch proofNumberSearch = new ProofNumberSearch(1_000_000, 1);
+        final EndgameSolver endgameSolver = new EndgameSolver(14, 1);
+
+        for (int game = 0; game < 30; game++) {
+            final MutableBoard board = new MutableBoard(4, 3, game % 2 == 0 ? MARKS : TWO_MARKS);
+            while (!board.isGameOver() && board.getEmptyCount() > 14) {
+                final int cell = random.nextInt(16);
+                if (!board.isOccupied(cell)) {
+                    board.makeMove(cell);
+                }
+            }
+            if (board.isGameOver()) {
+                continue;
+            }
+
+            final ProofResult result = proofNumberSearch.prove(board, NO_DEADLINE);
+            final boolean solvedWin = endgameSolver.solve(board, NO_DEADLINE).get().getScore() > 0;
+
+            assertThat(result.isProven(), is(solvedWin));
+            assertFalse(result.getStatus() == ProofResult.Status.UNKNOWN);
+            if (result.isProven()) {
+                assertFalse(board.isOccupied(result.getWinningMove()));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static tictactoe.engine.ProofNumberSearch.INFINITY;
+import static tictactoe.engine.ProofTable.NO_SLOT;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class ProofTableTest {
+    private final ProofTable proofTable = new ProofTable(1);
+
+    @Test
+    public void capacityFollowsMemoryCap() {
+        assertThat(proofTable.capacity(), is(32768));
+        assertThat(new ProofTable(4).capacity(), is(131072));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createTableWithoutMemory() {
+        new ProofTable(0);
+    }
+
+    @Test
+    public void storeAndFind() {
+        proofTable.store(42L, 3, 17, 99);
+
+        final int slot = proofTable.find(42L);
+
+        assertThat(proofTable.getProof(slot), is(3));
+        assertThat(proofTable.getDisproof(slot), is(17));
+        assertThat(proofTable.getMove(slot), is(99));
+        assertThat(proofTable.find(43L), is(NO_SLOT));
+    }
+
+    @Test
+    public void storeWithoutMove() {
+        proofTable.store(42L, 0, INFINITY, NO_MOVE);
+
+        assertThat(proofTable.getMove(proofTable.find(42L)), is(NO_MOVE));
+    }
+
+    @Test
+    public void storeKeepsSolvedEntry() {
+        final long solvedKey = 8L;
+        final long unsolvedKey = 8L + proofTable.capacity();
+        final long newKey = 8L + 2L * proofTable.capacity();
+        proofTable.store(solvedKey, 0, INFINITY, 1);
+        proofTable.store(unsolvedKey, 2, 2, 2);
+
+        proofTable.store(newKey, 1, 1, 3);
+
+        assertThat(proofTable.getMove(proofTable.find(solvedKey)), is(1));
+        assertThat(proofTable.find(unsolvedKey), is(NO_SLOT));
+        assertThat(proofTable.getMove(proofTable.find(newKey)), is(3));
+    }
+
+    @Test
+    public void clearRemovesEntries() {
+        proofTable.store(42L, 3, 17, 99);
+
+        proofTable.clear();
+
+        assertThat(proofTable.find(42L), is(NO_SLOT));
+    }
+}
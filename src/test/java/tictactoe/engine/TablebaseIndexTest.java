@@ -0,0 +1,46 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TablebaseIndexTest {
+
+    @Test
+    public void positionCount() {
+        assertThat(new TablebaseIndex(3, 3).getPositionCount(), is(27718L));
+        assertThat(new TablebaseIndex(4, 3).getPositionCount(), is(271699769L));
+        assertThat(new TablebaseIndex(4, 3).getLayerSize(12), is(63063000));
+    }
+
+    @Test
+    public void unrankInvertsRank() {
+        final TablebaseIndex index = new TablebaseIndex(4, 3);
+        final int[] playerMasks = new int[3];
+
+        for (int moveCount = 0; moveCount <= 16; moveCount++) {
+            final int layerSize = index.getLayerSize(moveCount);
+            for (int position = 0; position < layerSize; position += 1 + layerSize / 500) {
+                index.unrank(position, moveCount, playerMasks);
+
+                assertThat(Integer.bitCount(playerMasks[0] | playerMasks[1] | playerMasks[2]), is(moveCount));
+                assertThat(index.rank(playerMasks, moveCount), is(position));
+            }
+        }
+    }
+
+    @Test
+    public void gameOverWithWinnerOrNoLiveLine() {
+        final TablebaseIndex index = new TablebaseIndex(3, 2);
+
+        assertThat(index.winner(new int[] {0b000_000_111, 0b000_011_000}), is(0));
+        assertThat(index.isGameOver(new int[] {0b000_010_001, 0b000_001_010}), is(false));
+        assertThat(index.isGameOver(new int[] {0b110_001_101, 0b001_110_010}), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createIndexUnsupportedPlayers() {
+        new TablebaseIndex(3, 4);
+    }
+}
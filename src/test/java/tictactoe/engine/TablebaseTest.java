@@ -0,0 +1,119 @@
+package tictactoe.engine;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import tictactoe.model.MutableBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class TablebaseTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+    private static final char[] TWO_MARKS = {'O', 'X'};
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void generateReachablePositions() throws IOException {
+        final Path tablebaseFile = temporaryFolder.newFile("test.bin").toPath();
+
+        final long reachableCount = new TablebaseGenerator(3, 2, 2).generate(tablebaseFile);
+
+        assertThat(reachableCount, is(5478L));
+        assertTrue(Tablebase.load(tablebaseFile).isPresent());
+    }
+
+    @Test
+    public void emptyBoardIsDrawn() throws IOException {
+        final Tablebase tablebase = generate(3, 2);
+        final MutableBoard board = new MutableBoard(3, TWO_MARKS);
+
+        assertThat(tablebase.getValue(board, 0), is(Tablebase.DRAW));
+        assertThat(tablebase.getValue(board, 1), is(Tablebase.DRAW));
+        assertThat(tablebase.findMove(board), is(4));
+    }
+
+    @Test
+    public void findMoveTakesForcedWin() throws IOException {
+        final Tablebase tablebase = generate(3, 2);
+        final MutableBoard board = new MutableBoard(3, TWO_MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(0, 1, 'X');
+
+        assertThat(tablebase.getValue(board, 0), is(Tablebase.WIN));
+        assertThat(tablebase.getValue(board, 1), is(Tablebase.LOSS));
+        board.makeMove(tablebase.findMove(board));
+        assertThat(tablebase.getValue(board, 0), is(Tablebase.WIN));
+    }
+
+    @Test
+    public void valuesAgreeWithEndgameSolver() throws IOException {
+        final Tablebase tablebase = generate(3, 3);
+        final EndgameSolver endgameSolver = new EndgameSolver(9, 1);
+        final Random random = new Random(13);
+
+        for (int game = 0; game < 50; game++) {
+            final MutableBoard board = new MutableBoard(3, MARKS);
+            final int moveCount = random.nextInt(8);
+            while (!board.isGameOver() && board.getMoveCount() < moveCount) {
+                final int cell = random.nextInt(9);
+                if (!board.isOccupied(cell)) {
+                    board.makeMove(cell);
+                }
+            }
+            if (board.isGameOver()) {
+                continue;
+            }
+
+            final int player = board.getPlayerToMove();
+            final int solvedValue = Integer.signum(endgameSolver.solve(board, Long.MAX_VALUE).get().getScore()) + Tablebase.DRAW;
+            assertThat(tablebase.getValue(board, player), is(solvedValue));
+
+            board.makeMove(tablebase.findMove(board));
+            assertThat(tablebase.getValue(board, player), is(solvedValue));
+        }
+    }
+
+    @Test
+    public void findMoveOutOfTablebase() throws IOException {
+        final Tablebase tablebase = generate(3, 3);
+        final MutableBoard finishedBoard = new MutableBoard(3, MARKS);
+        finishedBoard.makeMove(0, 0, 'O');
+        finishedBoard.makeMove(0, 1, 'O');
+        finishedBoard.makeMove(0, 2, 'O');
+
+        assertFalse(tablebase.covers(new MutableBoard(4, MARKS)));
+        assertFalse(tablebase.covers(new MutableBoard(3, TWO_MARKS)));
+        assertThat(tablebase.findMove(new MutableBoard(4, MARKS)), is(NO_MOVE));
+        assertThat(tablebase.findMove(finishedBoard), is(NO_MOVE));
+    }
+
+    @Test
+    public void loadCorruptTablebase() throws IOException {
+        final Path tablebaseFile = temporaryFolder.newFile("corrupt.bin").toPath();
+        Files.write(tablebaseFile, new byte[] {1, 2, 3, 4, 5});
+
+        assertFalse(Tablebase.load(tablebaseFile).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void generateUnsupportedSize() {
+        new TablebaseGenerator(5, 3, 1);
+    }
+
+    private Tablebase generate(final int size, final int playerCount) throws IOException {
+        final Path tablebaseFile = temporaryFolder.newFile().toPath();
+        new TablebaseGenerator(size, playerCount, 2).generate(tablebaseFile);
+        return Tablebase.load(tablebaseFile).get();
+    }
+}
@@ -0,0 +1,94 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+import tictactoe.model.MutableBoard;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+
+public class TacticalAnalyzerTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Test
+    public void noTacticalMoveOnEmptyBoard() {
+        assertThat(TacticalAnalyzer.findTacticalMove(new MutableBoard(5, 4, MARKS)), is(NO_MOVE));
+    }
+
+    @Test
+    public void findWinningMove() {
+        final MutableBoard board = new MutableBoard(5, 4, MARKS);
+        board.makeMove(2, 0, 'O');
+        board.makeMove(2, 1, 'O');
+        board.makeMove(2, 2, 'O');
+        board.makeMove(0, 0, 'X');
+        board.makeMove(4, 4, 'A');
+        board.makeMove(0, 1, 'X');
+
+        assertThat(board.getPlayerToMove(), is(0));
+        assertThat(TacticalAnalyzer.findWinningMove(board, 0), is(13));
+        assertThat(TacticalAnalyzer.findTacticalMove(board), is(13));
+    }
+
+    @Test
+    public void winBeforeBlock() {
+        final MutableBoard board = new MutableBoard(3, new char[] {'O', 'X'});
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(0, 1, 'O');
+        board.makeMove(1, 1, 'X');
+
+        assertThat(TacticalAnalyzer.findTacticalMove(board), is(2));
+    }
+
+    @Test
+    public void blockNextPlayer() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 0, 'X');
+        board.makeMove(2, 2, 'A');
+        board.makeMove(0, 2, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 1, 'A');
+
+        assertThat(board.getPlayerToMove(), is(0));
+        assertThat(TacticalAnalyzer.findBlockingMove(board, 0), is(5));
+        assertThat(TacticalAnalyzer.findTacticalMove(board), is(1));
+    }
+
+    @Test
+    public void findForkMove() {
+        final MutableBoard board = new MutableBoard(3, new char[] {'O', 'X'});
+        board.makeMove(0, 0, 'O');
+        board.makeMove(0, 1, 'X');
+        board.makeMove(2, 2, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 1, 'O');
+        board.makeMove(1, 0, 'X');
+
+        assertThat(TacticalAnalyzer.findForkMove(board, 0), is(NO_MOVE));
+
+        final MutableBoard forkBoard = new MutableBoard(4, 3, new char[] {'O', 'X'});
+        forkBoard.makeMove(0, 0, 'O');
+        forkBoard.makeMove(3, 3, 'X');
+        forkBoard.makeMove(2, 2, 'O');
+        forkBoard.makeMove(3, 0, 'X');
+
+        final int forkMove = TacticalAnalyzer.findForkMove(forkBoard, 0);
+        forkBoard.makeMove(forkMove);
+        assertThat(forkBoard.getThreatLineCount(0) >= 2, is(true));
+    }
+
+    @Test
+    public void noForkWhenThreatsShareCompletion() {
+        final MutableBoard board = new MutableBoard(6, 4, new char[] {'O', 'X'});
+        board.makeMove(0, 0, 'O');
+        board.makeMove(5, 5, 'X');
+        board.makeMove(0, 2, 'O');
+        board.makeMove(5, 4, 'X');
+        board.makeMove(0, 4, 'O');
+
+        //the cell 1 makes two threats both completed on the cell 3, the cell 3 threatens the cells 1 and 5
+        assertThat(TacticalAnalyzer.findForkMove(board, 0), is(3));
+    }
+}
@@ -0,0 +1,83 @@
+package tictactoe.engine;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static tictactoe.engine.TranspositionTable.EXACT;
+import static tictactoe.engine.TranspositionTable.LOWER_BOUND;
+import static tictactoe.engine.TranspositionTable.NO_ENTRY;
+import static tictactoe.engine.TranspositionTable.NO_MOVE;
+import static tictactoe.engine.TranspositionTable.UPPER_BOUND;
+
+public class TranspositionTableTest {
+    private final TranspositionTable transpositionTable = new TranspositionTable(1);
+
+    @Test
+    public void capacityFollowsMemoryCap() {
+        assertThat(transpositionTable.capacity(), is(65536));
+        assertThat(new TranspositionTable(3).capacity(), is(131072));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createTableWithoutMemory() {
+        new TranspositionTable(0);
+    }
+
+    @Test
+    public void storeAndProbe() {
+        transpositionTable.store(42L, -999_990, 7, LOWER_BOUND, 99);
+
+        final long entry = transpositionTable.probe(42L);
+
+        assertThat(TranspositionTable.score(entry), is(-999_990));
+        assertThat(TranspositionTable.depth(entry), is(7));
+        assertThat(TranspositionTable.bound(entry), is(LOWER_BOUND));
+        assertThat(TranspositionTable.bestMove(entry), is(99));
+    }
+
+    @Test
+    public void probeMiss() {
+        transpositionTable.store(42L, 10, 3, EXACT, NO_MOVE);
+
+        assertThat(transpositionTable.probe(42L + transpositionTable.capacity()), is(NO_ENTRY));
+        assertThat(TranspositionTable.bestMove(transpositionTable.probe(42L)), is(NO_MOVE));
+    }
+
+    @Test
+    public void storeKeepsDeeperEntryOfCurrentSearch() {
+        final long deepKey = 8L;
+        final long shallowKey = 8L + transpositionTable.capacity();
+        final long otherKey = 8L + 2L * transpositionTable.capacity();
+
+        transpositionTable.store(deepKey, 1, 9, EXACT, 1);
+        transpositionTable.store(shallowKey, 2, 2, UPPER_BOUND, 2);
+        transpositionTable.store(otherKey, 3, 1, EXACT, 3);
+
+        assertThat(TranspositionTable.score(transpositionTable.probe(deepKey)), is(1));
+        assertThat(transpositionTable.probe(shallowKey), is(NO_ENTRY));
+        assertThat(TranspositionTable.score(transpositionTable.probe(otherKey)), is(3));
+    }
+
+    @Test
+    public void storeReplacesEntryOfOlderSearch() {
+        final long deepKey = 8L;
+        final long newKey = 8L + transpositionTable.capacity();
+
+        transpositionTable.store(deepKey, 1, 9, EXACT, 1);
+        transpositionTable.newSearch();
+        transpositionTable.store(newKey, 2, 1, EXACT, 2);
+
+        assertThat(transpositionTable.probe(deepKey), is(NO_ENTRY));
+        assertThat(TranspositionTable.score(transpositionTable.probe(newKey)), is(2));
+    }
+
+    @Test
+    public void clear() {
+        transpositionTable.store(42L, 10, 3, EXACT, 5);
+
+        transpositionTable.clear();
+
+        assertThat(transpositionTable.probe(42L), is(NO_ENTRY));
+    }
+}
@@ -0,0 +1,207 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BitBoardTest {
+    @Test(expected = IllegalArgumentException.class)
+    public void createBoardInvalidSize() {
+        new BitBoard(2);
+    }
+
+    @Test
+    public void getBoardGrid() {
+        final Character[][] boardGrid = createBoardGrid();
+
+        final BitBoard board = new BitBoard(boardGrid);
+
+        assertThat(board.getBoardGrid(), is(boardGrid));
+        assertThat(board.getSize(), is(10));
+    }
+
+    @Test
+    public void getAvailablePositions() {
+        final Character[][] boardGrid = new Character[3][3];
+        boardGrid[0][0] = 'A';
+        boardGrid[2][1] = 'B';
+
+        final Set<BoardPosition> expectedPositions = new HashSet<>();
+        expectedPositions.add(new BoardPosition(0, 1));
+        expectedPositions.add(new BoardPosition(0, 2));
+        expectedPositions.add(new BoardPosition(1, 0));
+        expectedPositions.add(new BoardPosition(1, 1));
+        expectedPositions.add(new BoardPosition(1, 2));
+        expectedPositions.add(new BoardPosition(2, 0));
+        expectedPositions.add(new BoardPosition(2, 2));
+
+        assertThat(new BitBoard(boardGrid).getAvailablePositions(), is(expectedPositions));
+    }
+
+    @Test
+    public void isPositionOccupied() {
+        final BitBoard board = new BitBoard(createBoardGrid());
+
+        assertTrue(board.isPositionOccupied(6, 6));
+        assertFalse(board.isPositionOccupied(7, 7));
+        assertFalse(board.isPositionOccupied(-1, 10));
+    }
+
+    @Test
+    public void placeMarkKeepsOriginalBoard() {
+        final BitBoard board = new BitBoard(4);
+
+        final BitBoard modifiedBoard = board.placeMark(3, 3, 'X');
+
+        assertTrue(modifiedBoard.isPositionOccupied(3, 3));
+        assertFalse(board.isPositionOccupied(3, 3));
+        assertThat(modifiedBoard.getMarkAt(3, 3), is('X'));
+        assertThat(modifiedBoard, not(board));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void placeMarkOccupied() {
+        new BitBoard(createBoardGrid()).placeMark(0, 0, 'O');
+    }
+
+    @Test
+    public void checkForAWinnerRow() {
+        final Character[][] boardGrid = new Character[4][4];
+        boardGrid[2][0] = 'X';
+        boardGrid[2][1] = 'X';
+        boardGrid[2][2] = 'X';
+        boardGrid[2][3] = 'X';
+        boardGrid[0][1] = 'O';
+
+        final BitBoard board = new BitBoard(boardGrid);
+
+        assertTrue(board.checkForAWinner(new BoardPosition(2, 3)));
+        assertFalse(board.checkForAWinner(new BoardPosition(0, 1)));
+    }
+
+    @Test
+    public void checkForAWinnerDiagonalAcrossWords() {
+        BitBoard board = new BitBoard(10);
+        for (int index = 0; index < 10; index++) {
+            assertFalse(board.checkForAWinner(new BoardPosition(index, 9 - index)));
+            board = board.placeMark(index, 9 - index, 'A');
+        }
+
+        assertTrue(board.checkForAWinner(new BoardPosition(9, 0)));
+        assertTrue(board.checkForAWinner(new BoardPosition(0, 9)));
+        assertFalse(board.checkForAWinner(new BoardPosition(5, 5)));
+    }
+
+    @Test
+    public void checkForAWinnerMatchesBoard() {
+        final Random random = new Random(7);
+        final char[] marks = {'O', 'X', 'A'};
+
+        for (int size = 3; size <= 10; size++) {
+            for (int game = 0; game < 20; game++) {
+                Board board = new Board(size);
+                BitBoard bitBoard = new BitBoard(size);
+
+                for (int turn = 0; turn < size * size; turn++) {
+                    final int row = random.nextInt(size);
+                    final int col = random.nextInt(size);
+                    if (board.isPositionOccupied(row, col)) {
+                        continue;
+                    }
+
+                    board = board.placeMark(row, col, marks[turn % marks.length]);
+                    bitBoard = bitBoard.placeMark(row, col, marks[turn % marks.length]);
+                    final BoardPosition position = new BoardPosition(row, col);
+
+                    assertThat(bitBoard.checkForAWinner(position), is(board.checkForAWinner(position)));
+                    assertThat(bitBoard.getAvailablePositions(), is(board.getAvailablePositions()));
+                }
+
+                assertThat(bitBoard.getBoardGrid(), is(board.getBoardGrid()));
+                assertThat(bitBoard.toString(), is(board.toString()));
+            }
+        }
+    }
+
+    @Test
+    public void checkForAWinnerWinLengthMatchesBoard() {
+        final Random random = new Random(13);
+        final char[] marks = {'O', 'X'};
+
+        for (int size = 5; size <= 10; size++) {
+            for (int winLength = 3; winLength <= 5; winLength++) {
+                Board board = new Board(size, winLength);
+                BitBoard bitBoard = new BitBoard(size, winLength);
+
+                for (int turn = 0; turn < size * size; turn++) {
+                    final int row = random.nextInt(size);
+                    final int col = random.nextInt(size);
+                    if (board.isPositionOccupied(row, col)) {
+                        continue;
+                    }
+
+                    board = board.placeMark(row, col, marks[turn % marks.length]);
+                    bitBoard = bitBoard.placeMark(row, col, marks[turn % marks.length]);
+                    final BoardPosition position = new BoardPosition(row, col);
+
+                    assertThat(bitBoard.checkForAWinner(position), is(board.checkForAWinner(position)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void liveLineCountFollowsPlacedMarks() {
+        final Random random = new Random(17);
+        final char[] marks = {'O', 'X', 'A'};
+
+        for (int winLength = 3; winLength <= 6; winLength++) {
+            Board board = new Board(6, winLength);
+            BitBoard bitBoard = new BitBoard(6, winLength);
+
+            for (int turn = 0; turn < 36; turn++) {
+                final int row = random.nextInt(6);
+                final int col = random.nextInt(6);
+                if (board.isPositionOccupied(row, col)) {
+                    continue;
+                }
+
+                board = board.placeMark(row, col, marks[turn % marks.length]);
+                bitBoard = bitBoard.placeMark(row, col, marks[turn % marks.length]);
+                final int liveLineCount = new Board(board.getBoardGrid(), winLength).getLiveLineCount();
+
+                assertThat(board.getLiveLineCount(), is(liveLineCount));
+                assertThat(bitBoard.getLiveLineCount(), is(liveLineCount));
+            }
+        }
+    }
+
+    @Test
+    public void equalsIgnoresMarkOrder() {
+        final BitBoard board = new BitBoard(3).placeMark(0, 0, 'A').placeMark(1, 1, 'B');
+        final BitBoard otherBoard = new BitBoard(3).placeMark(1, 1, 'B').placeMark(0, 0, 'A');
+
+        assertThat(board, is(otherBoard));
+        assertThat(board.hashCode(), is(otherBoard.hashCode()));
+    }
+
+    private Character[][] createBoardGrid() {
+        final Character[][] boardGrid = new Character[10][10];
+        boardGrid[0][0] = 'X';
+        boardGrid[1][1] = 'X';
+        boardGrid[2][2] = 'O';
+        boardGrid[2][3] = 'O';
+        boardGrid[4][4] = 'X';
+        boardGrid[6][6] = 'O';
+
+        return boardGrid;
+    }
+}
@@ -0,0 +1,37 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BoardPositionTest {
+    @Test
+    public void ofReturnsSharedPosition() {
+        final BoardPosition position = BoardPosition.of(9, 4);
+
+        assertThat(BoardPosition.of(9, 4), is(sameInstance(position)));
+        assertThat(position, is(new BoardPosition(9, 4)));
+    }
+
+    @Test
+    public void ofOutsideCachedPositions() {
+        final BoardPosition position = BoardPosition.of(-1, 10);
+
+        assertThat(position.getRow(), is(-1));
+        assertThat(position.getCol(), is(10));
+    }
+
+    @Test
+    public void cellRoundTrip() {
+        for (int size = 3; size <= 10; size++) {
+            for (int cell = 0; cell < size * size; cell++) {
+                final BoardPosition position = BoardPosition.ofCell(cell, size);
+
+                assertThat(position, is(new BoardPosition(cell / size, cell % size)));
+                assertThat(position.getCell(size), is(cell));
+            }
+        }
+    }
+}
@@ -107,6 +107,25 @@ public class BoardTest {
         assertFalse(positionOcuppied);
     }
 
+    @Test
+    public void isCellOccupied() {
+        final Board board = new Board(createBoardGrid());
+        assertTrue(board.isCellOccupied(0));
+        assertFalse(board.isCellOccupied(80));
+        assertFalse(board.isCellOccupied(100));
+    }
+
+    @Test
+    public void placeMarkAtCell() {
+        final Board board = new Board(3).placeMark(5, 'X');
+        assertThat(board.getMarkAt(1, 2), is('X'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void placeMarkAtInvalidCell() {
+        new Board(3).placeMark(9, 'X');
+    }
+
     @Test
     public void isPositionValidTrue() {
         final Board board = new Board(createBoardGrid());
@@ -159,6 +178,36 @@ public class BoardTest {
         assertFalse(board.checkForAWinner(currentMove));
     }
 
+    @Test
+    public void checkForAWinnerWinLength() {
+        Board board = new Board(10, 5);
+        for (int index = 0; index < 4; index++) {
+            board = board.placeMark(2 + index, 7 - index, 'X');
+        }
+        assertFalse(board.checkForAWinner(new BoardPosition(5, 4)));
+
+        board = board.placeMark(6, 3, 'X');
+        assertTrue(board.checkForAWinner(new BoardPosition(4, 5)));
+        assertTrue(board.checkDiagonalRightToLeft(9, 0));
+        assertFalse(board.checkRow(6));
+    }
+
+    @Test
+    public void checkForAWinnerWinLengthInterrupted() {
+        final Board board = new Board(6, 3).placeMark(0, 1, 'X')
+                                           .placeMark(0, 2, 'O')
+                                           .placeMark(0, 3, 'X')
+                                           .placeMark(0, 4, 'X');
+
+        assertFalse(board.checkForAWinner(new BoardPosition(0, 4)));
+        assertTrue(board.placeMark(0, 5, 'X').checkForAWinner(new BoardPosition(0, 5)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createBoardInvalidWinLength() {
+        new Board(5, 6);
+    }
+
     @Test
     public void checkRowTrue() {
         final Character[][] boardGrid = new Character[4][4];
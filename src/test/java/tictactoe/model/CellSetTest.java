@@ -0,0 +1,71 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.model.CellSet.NO_CELL;
+
+public class CellSetTest {
+    @Test
+    public void iteratesCellsInOrder() {
+        final CellSet cellSet = createCellSet(10, 3, 63, 64, 99);
+
+        final List<Integer> cells = new ArrayList<>();
+        final PrimitiveIterator.OfInt iterator = cellSet.cellIterator();
+        while (iterator.hasNext()) {
+            cells.add(iterator.nextInt());
+        }
+
+        assertThat(cells, is(Arrays.asList(3, 63, 64, 99)));
+        assertThat(cellSet.size(), is(4));
+        assertThat(cellSet.nextCell(65), is(99));
+        assertThat(cellSet.nextCell(100), is(NO_CELL));
+    }
+
+    @Test
+    public void containsPositions() {
+        final CellSet cellSet = createCellSet(4, 0, 6, 15);
+
+        assertTrue(cellSet.contains(new BoardPosition(1, 2)));
+        assertTrue(cellSet.containsCell(15));
+        assertFalse(cellSet.contains(new BoardPosition(2, 1)));
+        assertFalse(cellSet.contains(new BoardPosition(0, 4)));
+        assertFalse(cellSet.contains(new BoardPosition(-1, 0)));
+        assertFalse(cellSet.containsCell(16));
+    }
+
+    @Test
+    public void equalsHashSet() {
+        final CellSet cellSet = createCellSet(3, 1, 5, 8);
+        final HashSet<BoardPosition> positions = new HashSet<>(Arrays.asList(new BoardPosition(0, 1),
+                                                                             new BoardPosition(1, 2),
+                                                                             new BoardPosition(2, 2)));
+
+        assertThat(cellSet, is(positions));
+        assertThat(positions.equals(cellSet), is(true));
+        assertThat(cellSet.hashCode(), is(positions.hashCode()));
+        assertThat(cellSet, is(createCellSet(3, 1, 5, 8)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void isImmutable() {
+        createCellSet(3, 1).add(new BoardPosition(0, 0));
+    }
+
+    private static CellSet createCellSet(final int boardSize, final int... cells) {
+        final long[] bits = new long[CellSet.wordCount(boardSize)];
+        for (final int cell : cells) {
+            bits[cell / Long.SIZE] |= 1L << cell;
+        }
+        return new CellSet(boardSize, bits);
+    }
+}
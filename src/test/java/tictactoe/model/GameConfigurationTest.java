@@ -0,0 +1,29 @@
+package tictactoe.model;
+
+import org.junit.Test;
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class GameConfigurationTest {
+    private static final Character[] PLAYER_MARKS = {'A', 'B', 'C'};
+
+    @Test
+    public void createConfigurationWithMinimumWinLength() {
+        final GameConfiguration configuration = new GameConfiguration(PLAYER_MARKS, 5, Board.MIN_WIN_LENGTH,
+                new EngineConfigurationBuilder().build());
+
+        assertThat(configuration.getWinLength(), is(Board.MIN_WIN_LENGTH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createConfigurationWinLengthBelowMinimum() {
+        new GameConfiguration(PLAYER_MARKS, 5, Board.MIN_WIN_LENGTH - 1, new EngineConfigurationBuilder().build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createConfigurationWinLengthAbovePlaygroundSize() {
+        new GameConfiguration(PLAYER_MARKS, 5, 6, new EngineConfigurationBuilder().build());
+    }
+}
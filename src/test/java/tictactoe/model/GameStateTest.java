@@ -0,0 +1,107 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.model.PlayerType.COMPUTER;
+import static tictactoe.model.PlayerType.HUMAN;
+
+public class GameStateTest {
+    private final Player player1 = new Player(COMPUTER, 'O');
+    private final Player player2 = new Player(HUMAN, 'X');
+    private final Player player3 = new Player(HUMAN, 'A');
+    private final List<Player> playerList = asList(player1, player2, player3);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createNoPlayers() {
+        new GameState(3, asList());
+    }
+
+    @Test
+    public void makeMoveChangesActivePlayer() {
+        final GameState gameState = new GameState(3, playerList);
+
+        gameState.makeMove(1, 1);
+
+        assertThat(gameState.getActivePlayer(), is(player2));
+        assertThat(gameState.getTurnCount(), is(1));
+        assertFalse(gameState.isPositionAvailable(1, 1));
+        assertFalse(gameState.isGameOver());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void makeMoveOccupied() {
+        final GameState gameState = new GameState(3, playerList);
+        gameState.makeMove(1, 1);
+
+        gameState.makeMove(1, 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void makeMoveGameOver() {
+        final GameState gameState = new GameState(3, playerList);
+        gameState.escape();
+
+        gameState.makeMove(1, 1);
+    }
+
+    @Test
+    public void toGameMatchesImmutableGame() {
+        final GameState gameState = new GameState(3, playerList);
+        final int[][] moves = {{0, 0}, {1, 0}, {2, 0}, {0, 1}, {1, 1}, {2, 2}, {0, 2}};
+        for (final int[] move : moves) {
+            gameState.makeMove(move[0], move[1]);
+        }
+
+        final Game game = gameState.toGame();
+
+        assertTrue(game.isGameOver());
+        assertThat(game.getWinner(), is(player1));
+        assertThat(game.getTurnCount(), is(6));
+        assertThat(game.getPlayerList(), is(playerList));
+        assertThat(game.getBoard().getMarkAt(0, 2), is('O'));
+    }
+
+    @Test
+    public void undoMoveRestoresState() {
+        final GameState gameState = new GameState(3, playerList);
+        gameState.makeMove(0, 0);
+        gameState.escape();
+
+        gameState.undoMove();
+        gameState.undoMove();
+
+        assertFalse(gameState.isGameOver());
+        assertTrue(gameState.isPositionAvailable(0, 0));
+        assertThat(gameState.getActivePlayer(), is(player1));
+        assertThat(gameState.getWinner(), is(nullValue()));
+    }
+
+    @Test
+    public void undoMoveAfterEscapeOnlyReversesEscape() {
+        final GameState gameState = new GameState(3, playerList);
+        gameState.makeMove(0, 0);
+        gameState.escape();
+
+        gameState.undoMove();
+
+        assertFalse(gameState.isEscape());
+        assertFalse(gameState.isPositionAvailable(0, 0));
+        assertThat(gameState.getActivePlayer(), is(player2));
+
+        gameState.makeMove(1, 1);
+        gameState.undoMove();
+
+        assertFalse(gameState.isEscape());
+        assertTrue(gameState.isPositionAvailable(1, 1));
+        assertFalse(gameState.isPositionAvailable(0, 0));
+        assertThat(gameState.getActivePlayer(), is(player2));
+    }
+}
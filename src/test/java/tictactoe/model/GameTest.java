@@ -7,7 +7,9 @@ import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static tictactoe.model.PlayerType.COMPUTER;
 import static tictactoe.model.PlayerType.HUMAN;
@@ -91,6 +93,31 @@ public class GameTest {
         assertTrue(game.isGameOver());
     }
 
+    @Test
+    public void isGameOverNoLiveLines() {
+        final Player player1 = createPlayer(COMPUTER, 'V');
+        final Player player2 = createPlayer(COMPUTER, '$');
+        final List<Player> playerList = asList(player1, player2);
+        final Character[][] boardGrid = {{'V', '$', 'V'}, {'V', '$', '$'}, {'$', 'V', null}};
+        final Game game = new GameBuilder(new Board(boardGrid), playerList).turnCount(8)
+                                                                          .build();
+
+        assertTrue(game.isGameOver());
+        assertThat(game.getWinner(), is(nullValue()));
+    }
+
+    @Test
+    public void isGameNotOverWithLiveLine() {
+        final Player player1 = createPlayer(COMPUTER, 'V');
+        final Player player2 = createPlayer(COMPUTER, '$');
+        final List<Player> playerList = asList(player1, player2);
+        final Character[][] boardGrid = {{'V', '$', 'V'}, {'V', '$', '$'}, {'$', null, null}};
+        final Game game = new GameBuilder(new Board(boardGrid), playerList).turnCount(7)
+                                                                          .build();
+
+        assertFalse(game.isGameOver());
+    }
+
     private Player createPlayer(final PlayerType playerType, final char mark) {
         return new Player(playerType, mark);
     }
@@ -0,0 +1,62 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+public class LinePatternsTest {
+    private final LinePatterns linePatterns = LinePatterns.forWinLength(4);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createPatternsTooLong() {
+        LinePatterns.forWinLength(LinePatterns.MAX_WIN_LENGTH + 1);
+    }
+
+    @Test
+    public void emptyLine() {
+        final int entry = linePatterns.getEntry(0);
+
+        assertThat(LinePatterns.ownerCount(entry), is(0));
+        assertThat(LinePatterns.owner(entry), is(NO_PLAYER));
+        assertThat(LinePatterns.weight(entry), is(0));
+        assertTrue(LinePatterns.isLive(entry));
+    }
+
+    @Test
+    public void singleOwnerLine() {
+        final int pattern = LinePatterns.digit(0, 1) + LinePatterns.digit(2, 1) + LinePatterns.digit(3, 1);
+
+        final int entry = linePatterns.getEntry(pattern);
+
+        assertThat(LinePatterns.markCount(entry, 1), is(3));
+        assertThat(LinePatterns.markCount(entry, 0), is(0));
+        assertThat(LinePatterns.owner(entry), is(1));
+        assertThat(LinePatterns.weight(entry), is(4));
+        assertTrue(LinePatterns.isThreat(entry));
+        assertTrue(LinePatterns.isLive(entry));
+    }
+
+    @Test
+    public void deadLine() {
+        final int pattern = LinePatterns.digit(0, 0) + LinePatterns.digit(1, 0) + LinePatterns.digit(2, 2);
+
+        final int entry = linePatterns.getEntry(pattern);
+
+        assertThat(LinePatterns.markCount(entry, 0), is(2));
+        assertThat(LinePatterns.markCount(entry, 2), is(1));
+        assertThat(LinePatterns.ownerCount(entry), is(2));
+        assertThat(LinePatterns.owner(entry), is(NO_PLAYER));
+        assertThat(LinePatterns.weight(entry), is(0));
+        assertFalse(LinePatterns.isThreat(entry));
+        assertFalse(LinePatterns.isLive(entry));
+    }
+
+    @Test
+    public void sameTableForSameWinLength() {
+        assertTrue(LinePatterns.forWinLength(4) == linePatterns);
+    }
+}
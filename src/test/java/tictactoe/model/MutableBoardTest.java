@@ -0,0 +1,306 @@
+package tictactoe.model;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static tictactoe.model.MutableBoard.NO_PLAYER;
+
+public class MutableBoardTest {
+    private static final char[] MARKS = {'O', 'X', 'A'};
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createBoardInvalidSize() {
+        new MutableBoard(2, MARKS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createBoardTooManyPlayers() {
+        new MutableBoard(3, new char[] {'O', 'X', 'A', 'B'});
+    }
+
+    @Test
+    public void createFromBoard() {
+        final Character[][] boardGrid = new Character[4][4];
+        boardGrid[0][0] = 'O';
+        boardGrid[1][2] = 'X';
+        boardGrid[3][3] = 'A';
+
+        final MutableBoard board = new MutableBoard(new Board(boardGrid), MARKS);
+
+        assertThat(board.getMoveCount(), is(3));
+        assertThat(board.getEmptyCount(), is(13));
+        assertThat(board.getPlayerAt(6), is(1));
+        assertThat(board.getPlayerToMove(), is(0));
+        assertThat(board.toBoard(), is(new Board(boardGrid)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createFromBoardUnknownMark() {
+        final Character[][] boardGrid = new Character[3][3];
+        boardGrid[1][1] = 'Z';
+
+        new MutableBoard(new Board(boardGrid), MARKS);
+    }
+
+    @Test
+    public void makeMove() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+
+        board.makeMove(1, 2, 'X');
+
+        assertTrue(board.isOccupied(5));
+        assertThat(board.getPlayerAt(5), is(1));
+        assertThat(board.getLastMove(), is(5));
+        assertThat(board.getPlayerToMove(), is(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void makeMoveOccupied() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(1, 1, 'X');
+
+        board.makeMove(1, 1, 'O');
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void undoMoveEmpty() {
+        new MutableBoard(3, MARKS).undoMove();
+    }
+
+    @Test
+    public void makeMoveWinnerAndUndo() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 1, 'O');
+        assertThat(board.getWinner(), is(NO_PLAYER));
+
+        board.makeMove(2, 2, 'O');
+        assertThat(board.getWinner(), is(0));
+        assertTrue(board.isGameOver());
+
+        board.undoMove();
+        assertThat(board.getWinner(), is(NO_PLAYER));
+        assertFalse(board.isOccupied(8));
+        assertFalse(board.isGameOver());
+    }
+
+    @Test
+    public void makeMoveWinLength() {
+        final MutableBoard board = new MutableBoard(7, 4, MARKS);
+        board.makeMove(3, 2, 'X');
+        board.makeMove(4, 3, 'X');
+        board.makeMove(5, 4, 'X');
+        assertThat(board.getWinner(), is(NO_PLAYER));
+
+        board.makeMove(2, 1, 'X');
+        assertThat(board.getWinner(), is(1));
+        assertThat(board.toBoard(), is(new Board(7, 4).placeMark(3, 2, 'X')
+                                                       .placeMark(4, 3, 'X')
+                                                       .placeMark(5, 4, 'X')
+                                                       .placeMark(2, 1, 'X')));
+    }
+
+    @Test
+    public void makeMoveWinLengthMatchesBoard() {
+        final Random random = new Random(5);
+
+        for (int size = 5; size <= 10; size++) {
+            for (int game = 0; game < 10; game++) {
+                final MutableBoard mutableBoard = new MutableBoard(size, 4, MARKS);
+                Board board = new Board(size, 4);
+
+                while (!mutableBoard.isGameOver()) {
+                    final int cell = random.nextInt(size * size);
+                    if (mutableBoard.isOccupied(cell)) {
+                        continue;
+                    }
+
+                    board = board.placeMark(cell, MARKS[mutableBoard.getPlayerToMove()]);
+                    mutableBoard.makeMove(cell);
+
+                    final boolean winner = board.checkForAWinner(BoardPosition.ofCell(cell, size));
+                    assertThat(mutableBoard.getWinner() != NO_PLAYER, is(winner));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void zobristKeyDependsOnWinLength() {
+        assertThat(new MutableBoard(5, 4, MARKS).getZobristKey() == new MutableBoard(5, MARKS).getZobristKey(), is(false));
+        assertThat(new MutableBoard(5, 5, MARKS).getZobristKey(), is(new MutableBoard(5, MARKS).getZobristKey()));
+    }
+
+    @Test
+    public void drawWhenNoLiveLines() {
+        final MutableBoard board = new MutableBoard(3, new char[] {'X', 'O'});
+        final int[] cells = {0, 1, 2, 4, 3, 5, 7, 6};
+        for (final int cell : cells) {
+            board.makeMove(cell);
+        }
+
+        assertThat(board.getLiveLineCount(), is(0));
+        assertThat(board.getWinner(), is(NO_PLAYER));
+        assertThat(board.getEmptyCount(), is(1));
+        assertTrue(board.isGameOver());
+
+        board.undoMove();
+        assertThat(board.getLiveLineCount(), is(2));
+        assertFalse(board.isGameOver());
+        assertThat(board.toBoard().getLiveLineCount(), is(2));
+    }
+
+    @Test
+    public void lineStateMatchesRecount() {
+        final Random random = new Random(17);
+
+        for (int size = 4; size <= 8; size++) {
+            final MutableBoard board = new MutableBoard(size, 4, MARKS);
+            for (int step = 0; step < 200; step++) {
+                if (board.isGameOver() || board.getMoveCount() > 0 && random.nextInt(3) == 0) {
+                    board.undoMove();
+                } else {
+                    final int cell = random.nextInt(size * size);
+                    if (!board.isOccupied(cell)) {
+                        board.makeMove(cell);
+                    }
+                }
+
+                for (int player = 0; player < MARKS.length; player++) {
+                    assertThat(board.getLineScore(player), is(recountLineScore(board, player)));
+                    assertThat(board.getThreatLineCount(player), is(recountOwnedLines(board, player, 1)));
+                    assertThat(board.getPreThreatLineCount(player), is(recountOwnedLines(board, player, 2)));
+                    for (int index = 0; index < board.getThreatLineCount(player); index++) {
+                        assertThat(board.getLineMarkCount(board.getThreatLine(player, index), player), is(3));
+                    }
+                    for (int index = 0; index < board.getPreThreatLineCount(player); index++) {
+                        assertThat(board.getLineMarkCount(board.getPreThreatLine(player, index), player), is(2));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void copyIsIndependent() {
+        final MutableBoard board = new MutableBoard(3, MARKS);
+        board.makeMove(1, 1, 'O');
+
+        final MutableBoard copy = new MutableBoard(board);
+        copy.makeMove(0);
+        copy.undoMove();
+        copy.undoMove();
+
+        assertThat(board.getMoveCount(), is(1));
+        assertTrue(board.isOccupied(4));
+        assertFalse(copy.isOccupied(4));
+        assertThat(copy.getZobristKey(), is(new MutableBoard(3, MARKS).getZobristKey()));
+    }
+
+    @Test
+    public void zobristKeyIndependentOfMoveOrder() {
+        final MutableBoard board = new MutableBoard(4, MARKS);
+        final MutableBoard otherBoard = new MutableBoard(4, MARKS);
+
+        board.makeMove(0, 0, 'O');
+        board.makeMove(1, 1, 'X');
+        board.makeMove(2, 2, 'A');
+        otherBoard.makeMove(2, 2, 'A');
+        otherBoard.makeMove(0, 0, 'O');
+        otherBoard.makeMove(1, 1, 'X');
+
+        assertThat(board.getZobristKey(), is(otherBoard.getZobristKey()));
+
+        board.undoMove();
+        board.makeMove(2, 2, 'X');
+        assertThat(board.getZobristKey() == otherBoard.getZobristKey(), is(false));
+    }
+
+    @Test
+    public void canonicalKeySameForSymmetricPositions() {
+        final MutableBoard board = new MutableBoard(4, MARKS);
+        board.makeMove(0, 1, 'O');
+        board.makeMove(2, 3, 'X');
+        final MutableBoard rotatedBoard = new MutableBoard(4, MARKS);
+        rotatedBoard.makeMove(1, 3, 'O');
+        rotatedBoard.makeMove(3, 1, 'X');
+        final MutableBoard reflectedBoard = new MutableBoard(4, MARKS);
+        reflectedBoard.makeMove(0, 2, 'O');
+        reflectedBoard.makeMove(2, 0, 'X');
+        final MutableBoard otherBoard = new MutableBoard(4, MARKS);
+        otherBoard.makeMove(0, 1, 'O');
+        otherBoard.makeMove(2, 2, 'X');
+
+        assertThat(rotatedBoard.getCanonicalKey(), is(board.getCanonicalKey()));
+        assertThat(reflectedBoard.getCanonicalKey(), is(board.getCanonicalKey()));
+        assertThat(otherBoard.getCanonicalKey() == board.getCanonicalKey(), is(false));
+    }
+
+    @Test
+    public void makeMoveMatchesBoard() {
+        final Random random = new Random(11);
+
+        for (int size = 3; size <= 10; size++) {
+            final MutableBoard mutableBoard = new MutableBoard(size, MARKS);
+            Board board = new Board(size);
+
+            while (!mutableBoard.isGameOver()) {
+                final int cell = random.nextInt(size * size);
+                if (mutableBoard.isOccupied(cell)) {
+                    continue;
+                }
+
+                final char mark = MARKS[mutableBoard.getPlayerToMove()];
+                board = board.placeMark(cell / size, cell % size, mark);
+                mutableBoard.makeMove(cell);
+
+                final boolean winner = board.checkForAWinner(new BoardPosition(cell / size, cell % size));
+                assertThat(mutableBoard.getWinner() != NO_PLAYER, is(winner));
+                assertThat(mutableBoard.toBoard(), is(board));
+            }
+
+            final int moveCount = mutableBoard.getMoveCount();
+            for (int move = 0; move < moveCount; move++) {
+                mutableBoard.undoMove();
+            }
+            assertThat(mutableBoard.toBoard(), is(new Board(size)));
+            assertThat(mutableBoard.getWinner(), is(NO_PLAYER));
+            assertThat(mutableBoard.getZobristKey(), is(new MutableBoard(size, MARKS).getZobristKey()));
+        }
+    }
+
+    private static int recountLineScore(final MutableBoard board, final int player) {
+        final BoardLines lines = BoardLines.forSize(board.getSize(), board.getWinLength());
+        int score = 0;
+        for (int line = 0; line < lines.getLineCount(); line++) {
+            int count = 0;
+            boolean owned = true;
+            for (final int cell : lines.getLineCells(line)) {
+                if (board.getPlayerAt(cell) == player) {
+                    count++;
+                } else if (board.getPlayerAt(cell) != NO_PLAYER) {
+                    owned = false;
+                }
+            }
+            if (owned && count > 0) {
+                score += 1 << (count - 1);
+            }
+        }
+        return score;
+    }
+
+    private static int recountOwnedLines(final MutableBoard board, final int player, final int missingMarks) {
+        int ownedLines = 0;
+        for (int line = 0; line < board.getLineCount(); line++) {
+            if (board.getLineOwnerCount(line) == 1 && board.getLineMarkCount(line, player) == board.getWinLength() - missingMarks) {
+                ownedLines++;
+            }
+        }
+        return ownedLines;
+    }
+}
@@ -1,26 +1,57 @@
 package tictactoe.service;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import tictactoe.engine.EndgameSolver;
+import tictactoe.engine.MinimaxSearch;
+import tictactoe.engine.MonteCarloSearch;
+import tictactoe.engine.OpeningBook;
+import tictactoe.engine.OpeningBookGenerator;
+import tictactoe.engine.ProofNumberSearch;
+import tictactoe.engine.SearchEngine;
+import tictactoe.engine.Tablebase;
+import tictactoe.engine.TablebaseGenerator;
 import tictactoe.model.Board;
 import tictactoe.model.BoardPosition;
+import tictactoe.model.Game;
+import tictactoe.model.Game.GameBuilder;
+import tictactoe.model.GameState;
+import tictactoe.model.Player;
 import tictactoe.model.PlayerMove;
+import tictactoe.service.ComputerPlayerEngine.ComputerPlayerEngineBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static tictactoe.model.PlayerType.COMPUTER;
+import static tictactoe.model.PlayerType.HUMAN;
 
 public class ComputerPlayerEngineTest {
     private final ComputerPlayerEngine computerPlayerEngine = new ComputerPlayerEngine();
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void getComputerPlayerMove() {
         final Board board = new Board(createBoardGrid());
 
         final PlayerMove nextPosition = computerPlayerEngine.getComputerPlayerMove(board);
 
-        final BoardPosition expectedPosition = new BoardPosition(4, 4);
+        final BoardPosition expectedPosition = new BoardPosition(0, 1);
         assertThat(nextPosition, allOf(hasProperty("position", equalTo(expectedPosition)),
                                        hasProperty("escape", equalTo(false)),
                                        hasProperty("validMove", equalTo(true))));
@@ -29,17 +60,188 @@ public class ComputerPlayerEngineTest {
     @Test
     public void getComputerPlayerMoveAfterMove() {
         final Character[][] boardGrid = createBoardGrid();
-        boardGrid[4][4] = 'A';
+        boardGrid[0][1] = 'A';
 
         final Board board = new Board(boardGrid);
         final PlayerMove nextPosition = computerPlayerEngine.getComputerPlayerMove(board);
 
-        final BoardPosition expectedPosition = new BoardPosition(8, 8);
+        final BoardPosition expectedPosition = new BoardPosition(0, 2);
         assertThat(nextPosition, allOf(hasProperty("position", equalTo(expectedPosition)),
                                        hasProperty("escape", equalTo(false)),
                                        hasProperty("validMove", equalTo(true))));
     }
 
+    @Test
+    public void getComputerPlayerMoveSearch() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MinimaxSearch(), 1000);
+        final Character[][] boardGrid = new Character[3][3];
+        boardGrid[0][0] = 'A';
+        boardGrid[1][0] = 'B';
+        boardGrid[2][0] = 'C';
+        boardGrid[0][1] = 'A';
+        boardGrid[1][1] = 'B';
+        boardGrid[2][2] = 'C';
+        final List<Player> playerList = asList(new Player(HUMAN, 'C'), new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'));
+        final Game game = new GameBuilder(new Board(boardGrid), playerList).turnCount(7).build();
+
+        final PlayerMove nextPosition = searchingEngine.getComputerPlayerMove(game);
+
+        final BoardPosition expectedPosition = new BoardPosition(0, 2);
+        assertThat(nextPosition, allOf(hasProperty("position", equalTo(expectedPosition)),
+                                       hasProperty("escape", equalTo(false)),
+                                       hasProperty("validMove", equalTo(true))));
+    }
+
+    @Test
+    public void getComputerPlayerMoveSearchWithinTimeout() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MinimaxSearch(), 200);
+        final List<Player> playerList = asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'), new Player(HUMAN, 'C'));
+        final Game game = new GameBuilder(new Board(10), playerList).build();
+
+        final long startNanos = System.nanoTime();
+        final PlayerMove nextPosition = searchingEngine.getComputerPlayerMove(game);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertTrue(elapsedMillis < 1000);
+        assertTrue(nextPosition.isValidMove());
+        assertTrue(nextPosition.getSearchDepth() >= 1);
+        assertTrue(nextPosition.getSearchNodes() > 0);
+        assertThat(nextPosition.getPlayoutsPerSecond(), is(0.0));
+    }
+
+    @Test
+    public void getComputerPlayerMoveReportsPlayoutsPerSecond() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MonteCarloSearch(500), 1000);
+        final List<Player> playerList = asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'), new Player(HUMAN, 'C'));
+        final Game game = new GameBuilder(new Board(5), playerList).build();
+
+        final PlayerMove nextPosition = searchingEngine.getComputerPlayerMove(game);
+
+        assertThat(nextPosition.getSearchNodes(), is(500L));
+        assertTrue(nextPosition.getPlayoutsPerSecond() > 0);
+    }
+
+    @Test
+    public void getComputerPlayerMoveSearchGameState() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MinimaxSearch(), 1000);
+        final GameState gameState = new GameState(3, asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'), new Player(HUMAN, 'C')));
+        final int[][] moves = {{0, 0}, {1, 0}, {2, 0}, {0, 1}, {1, 1}, {2, 2}};
+        for (final int[] move : moves) {
+            gameState.makeMove(move[0], move[1]);
+        }
+
+        final PlayerMove nextPosition = searchingEngine.getComputerPlayerMove(gameState);
+
+        assertThat(nextPosition, hasProperty("position", equalTo(new BoardPosition(0, 2))));
+        assertThat(gameState.getTurnCount(), is(6));
+    }
+
+    @Test
+    public void getComputerPlayerMoveSearchPrincipalVariation() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MinimaxSearch(4), 1000);
+        final GameState gameState = new GameState(5, 4, asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B')));
+        gameState.makeMove(2, 2);
+
+        final PlayerMove nextPosition = searchingEngine.getComputerPlayerMove(gameState);
+
+        assertThat(nextPosition.getPrincipalVariation().get(0), is(nextPosition.getPosition()));
+        assertThat(nextPosition.getPrincipalVariation().size(), is(4));
+        assertThat(nextPosition.getSearchDepth(), is(4));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getComputerPlayerMoveSearchGameOver() {
+        final ComputerPlayerEngine searchingEngine = new ComputerPlayerEngine(new MinimaxSearch(), 1000);
+        final List<Player> playerList = asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'));
+        final Game game = new GameBuilder(new Board(3), playerList).escape(true).build();
+
+        searchingEngine.getComputerPlayerMove(game);
+    }
+
+    @Test
+    public void getComputerPlayerMoveSolvesEndgameWithoutSearch() {
+        final SearchEngine searchEngine = mock(SearchEngine.class);
+        final ComputerPlayerEngine solvingEngine = new ComputerPlayerEngineBuilder(searchEngine, 1000)
+                .endgameSolver(new EndgameSolver(5, 1))
+                .build();
+        final GameState gameState = new GameState(3, asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B')));
+        final int[][] moves = {{0, 0}, {0, 1}, {1, 1}, {2, 2}};
+        for (final int[] move : moves) {
+            gameState.makeMove(move[0], move[1]);
+        }
+
+        final PlayerMove nextPosition = solvingEngine.getComputerPlayerMove(gameState);
+
+        assertThat(nextPosition, hasProperty("position", equalTo(new BoardPosition(1, 0))));
+        assertThat(nextPosition.getSearchDepth(), is(5));
+        verifyZeroInteractions(searchEngine);
+    }
+
+    @Test
+    public void getComputerPlayerMoveBlocksWithoutSearch() {
+        final SearchEngine searchEngine = mock(SearchEngine.class);
+        final ComputerPlayerEngine tacticalEngine = new ComputerPlayerEngine(searchEngine, 1000);
+        final GameState gameState = new GameState(7, 4, asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B')));
+        final int[][] moves = {{0, 0}, {3, 1}, {6, 6}, {3, 2}, {0, 6}, {3, 3}};
+        for (final int[] move : moves) {
+            gameState.makeMove(move[0], move[1]);
+        }
+
+        final PlayerMove nextPosition = tacticalEngine.getComputerPlayerMove(gameState);
+
+        assertThat(nextPosition, hasProperty("position", equalTo(new BoardPosition(3, 0))));
+        assertThat(nextPosition.getSearchDepth(), is(0));
+        verifyZeroInteractions(searchEngine);
+    }
+
+    @Test
+    public void getComputerPlayerMoveFromOpeningBook() throws IOException {
+        final Path bookFile = temporaryFolder.newFile("test.book").toPath();
+        new OpeningBookGenerator(3, 1, 1000).generate(bookFile, 3, 3);
+        final SearchEngine searchEngine = mock(SearchEngine.class);
+        final OpeningBook openingBook = OpeningBook.load(bookFile).get();
+        final ComputerPlayerEngine bookEngine = new ComputerPlayerEngineBuilder(searchEngine, 1000).openingBook(openingBook).build();
+        final List<Player> playerList = asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B'), new Player(HUMAN, 'C'));
+        final Game game = new GameBuilder(new Board(3), playerList).build();
+
+        final PlayerMove nextPosition = bookEngine.getComputerPlayerMove(game);
+
+        assertThat(nextPosition, hasProperty("position", equalTo(new BoardPosition(1, 1))));
+        verifyZeroInteractions(searchEngine);
+    }
+
+    @Test
+    public void getComputerPlayerMoveFromTablebase() throws IOException {
+        final Path tablebaseFile = temporaryFolder.newFile("test.bin").toPath();
+        new TablebaseGenerator(3, 3, 1).generate(tablebaseFile);
+        final SearchEngine searchEngine = mock(SearchEngine.class);
+        final Tablebase tablebase = Tablebase.load(tablebaseFile).get();
+        final ComputerPlayerEngine tablebaseEngine = new ComputerPlayerEngineBuilder(searchEngine, 1000).tablebase(tablebase).build();
+        final GameState gameState = new GameState(3, asList(new Player(HUMAN, 'A'), new Player(COMPUTER, 'B'), new Player(HUMAN, 'C')));
+        gameState.makeMove(1, 1);
+
+        final PlayerMove nextPosition = tablebaseEngine.getComputerPlayerMove(gameState);
+
+        assertTrue(nextPosition.isValidMove());
+        assertThat(nextPosition.getSearchDepth(), is(8));
+        verifyZeroInteractions(searchEngine);
+    }
+
+    @Test
+    public void getComputerPlayerMovePlaysProvenWinWithoutSearch() {
+        final SearchEngine searchEngine = mock(SearchEngine.class);
+        final ComputerPlayerEngine provingEngine = new ComputerPlayerEngineBuilder(searchEngine, 1000)
+                .proofNumberSearch(new ProofNumberSearch(10_000, 1))
+                .build();
+        final GameState gameState = new GameState(4, 3, asList(new Player(COMPUTER, 'A'), new Player(HUMAN, 'B')));
+
+        final PlayerMove nextPosition = provingEngine.getComputerPlayerMove(gameState);
+
+        assertTrue(nextPosition.isValidMove());
+        assertTrue(nextPosition.getSearchNodes() > 0);
+        verifyZeroInteractions(searchEngine);
+    }
+
     private Character[][] createBoardGrid() {
         final Character[][] boardGrid = new Character[10][10];
         boardGrid[0][0] = 'A';
@@ -3,6 +3,8 @@ package tictactoe.service;
 
 import org.junit.Before;
 import org.junit.Test;
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+import tictactoe.model.EngineType;
 import tictactoe.model.GameConfiguration;
 
 import java.io.ByteArrayOutputStream;
@@ -46,6 +48,135 @@ public class ConfigurationLoaderTest {
         configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
     }
 
+    @Test
+    public void loadGameConfigurationCustomWinLength() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 10, 5,
+                new EngineConfigurationBuilder().build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-win-length.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidWinLength() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-win-length.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString("Configuration file doesn't contain a valid win.length between 3-6.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomMoveTimeout() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 6,
+                new EngineConfigurationBuilder().moveTimeoutMillis(250).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-move-timeout.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidMoveTimeout() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-move-timeout.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString("Configuration file doesn't contain a valid positive engine.move.timeout.ms.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomEngineParallelism() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 6,
+                new EngineConfigurationBuilder().parallelism(4).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-engine-parallelism.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidEngineParallelism() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-engine-parallelism.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString("Configuration file doesn't contain a valid engine.parallelism between 1-256.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomEndgameEmptyCells() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 5,
+                new EngineConfigurationBuilder().endgameEmptyCells(0).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-endgame-empty-cells.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidEndgameEmptyCells() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-endgame-empty-cells.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString(
+                "Configuration file doesn't contain a valid engine.endgame.empty.cells between 0-12, 0 turns the endgame solver off.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomProofNodeLimit() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 5,
+                new EngineConfigurationBuilder().proofNodeLimit(0).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-proof-nodes.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidProofNodeLimit() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-proof-nodes.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString(
+                "Configuration file doesn't contain a valid engine.proof.nodes, 0 turns the proof search off.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomDeterministic() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 5,
+                new EngineConfigurationBuilder().searchDepth(4).deterministic(true).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-deterministic.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomDeterministicWithoutDepth() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-deterministic.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString("Configuration file sets engine.deterministic, which needs engine.search.depth "
+                                                                 + "and engine.parallelism=1 for minimax or engine.mcts.playouts for mcts.\n"));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomMonteCarloEngine() {
+        final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'A', 'B', 'C'}, 8,
+                new EngineConfigurationBuilder().engineType(EngineType.MCTS).playoutLimit(50000).build());
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-mcts-engine.properties");
+
+        assertTrue(configurationOptional.isPresent());
+        configurationOptional.ifPresent(actualConfiguration -> assertThat(actualConfiguration, samePropertyValuesAs(expectedConfiguration)));
+    }
+
+    @Test
+    public void loadGameConfigurationCustomInvalidEngineType() {
+        final Optional<GameConfiguration> configurationOptional = configurationLoader.loadGameConfiguration("test-invalid-engine-type.properties");
+
+        assertFalse(configurationOptional.isPresent());
+        assertThat(outContent.toString(), containsString("Configuration file doesn't contain a valid engine.type, expected one of [MINIMAX, MCTS].\n"));
+    }
+
     @Test
     public void loadGameConfigurationCustomNonExistentReturnsDefault() {
         final GameConfiguration expectedConfiguration = new GameConfiguration(new Character[] {'O', 'X', 'A'}, 4);
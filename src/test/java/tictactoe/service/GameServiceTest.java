@@ -6,17 +6,20 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import tictactoe.model.BitBoard;
 import tictactoe.model.Board;
 import tictactoe.model.BoardPosition;
 import tictactoe.model.Game;
 import tictactoe.model.Game.GameBuilder;
 import tictactoe.model.GameConfiguration;
+import tictactoe.model.GameState;
 import tictactoe.model.Player;
 import tictactoe.model.PlayerMove;
 import tictactoe.model.PlayerMove.PlayerMoveBuilder;
 
 import static java.util.Arrays.asList;
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,6 +29,8 @@ import static org.hamcrest.beans.HasPropertyWithValue.hasProperty;
 import static org.hamcrest.beans.SamePropertyValuesAs.samePropertyValuesAs;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -55,6 +60,7 @@ public class GameServiceTest {
     public void startNewGame() {
         when(gameConfiguration.getPlayerMarks()).thenReturn(new Character[] {'A', 'B', 'C'});
         when(gameConfiguration.getPlaygroundSize()).thenReturn(10);
+        when(gameConfiguration.getWinLength()).thenReturn(10);
 
         final Game actualGame = gameService.startNewGame();
 
@@ -69,6 +75,47 @@ public class GameServiceTest {
 
         verify(gameConfiguration).getPlayerMarks();
         verify(gameConfiguration).getPlaygroundSize();
+        verify(gameConfiguration).getWinLength();
+        verify(computerPlayerEngine).newGame();
+    }
+
+    @Test
+    public void startNewComputerGame() {
+        when(gameConfiguration.getPlayerMarks()).thenReturn(new Character[] {'A', 'B', 'C'});
+        when(gameConfiguration.getPlaygroundSize()).thenReturn(5);
+        when(gameConfiguration.getWinLength()).thenReturn(5);
+
+        final Game actualGame = gameService.startNewComputerGame();
+
+        final Player player1 = new Player(COMPUTER, 'A');
+        final Player player2 = new Player(COMPUTER, 'B');
+        final Player player3 = new Player(COMPUTER, 'C');
+
+        assertThat(actualGame, allOf(hasProperty(PROP_BOARD, samePropertyValuesAs(new Board(5))),
+                                     hasProperty(PROP_PLAYER_LIST, containsInAnyOrder(player1, player2, player3)))
+        );
+
+        verify(gameConfiguration).getPlayerMarks();
+        verify(gameConfiguration).getPlaygroundSize();
+        verify(gameConfiguration).getWinLength();
+        verify(computerPlayerEngine).newGame(anyLong());
+    }
+
+    @Test
+    public void startNewComputerGameSameSeedSamePlayerOrder() {
+        when(gameConfiguration.getPlayerMarks()).thenReturn(new Character[] {'A', 'B', 'C', 'D', 'E'});
+        when(gameConfiguration.getPlaygroundSize()).thenReturn(5);
+        when(gameConfiguration.getWinLength()).thenReturn(5);
+
+        final Game actualGame = gameService.startNewComputerGame(42);
+        final Game otherGame = gameService.startNewComputerGame(42);
+
+        assertThat(otherGame.getPlayerList(), is(actualGame.getPlayerList()));
+
+        verify(gameConfiguration, times(2)).getPlayerMarks();
+        verify(gameConfiguration, times(2)).getPlaygroundSize();
+        verify(gameConfiguration, times(2)).getWinLength();
+        verify(computerPlayerEngine, times(2)).newGame(42);
     }
 
     @Test
@@ -80,13 +127,13 @@ public class GameServiceTest {
         final BoardPosition position = new BoardPosition(0, 0);
         final PlayerMove playerMove = new PlayerMoveBuilder().position(position).build();
 
-        when(computerPlayerEngine.getComputerPlayerMove(board)).thenReturn(playerMove);
+        when(computerPlayerEngine.getComputerPlayerMove(game)).thenReturn(playerMove);
 
         final PlayerMove actualMove = gameService.nextPlayerMove(game, () -> "2,2");
 
         assertThat(actualMove, is(playerMove));
 
-        verify(computerPlayerEngine).getComputerPlayerMove(board);
+        verify(computerPlayerEngine).getComputerPlayerMove(game);
     }
 
     @Test
@@ -253,6 +300,31 @@ public class GameServiceTest {
         );
     }
 
+    @Test
+    public void playerMakesMoveWinnerBitBoard() {
+        final Player player1 = new Player(HUMAN, 'A');
+        final Player player2 = new Player(COMPUTER, 'B');
+        final Character[][] boardGrid = new Character[3][3];
+        boardGrid[0][0] = 'A';
+        boardGrid[0][1] = 'B';
+        boardGrid[1][1] = 'A';
+        boardGrid[2][1] = 'B';
+        final Board board = new BitBoard(boardGrid);
+        final Game game = new GameBuilder(board, asList(player1, player2)).turnCount(4).build();
+        final BoardPosition boardPosition = new BoardPosition(2, 2);
+
+        final Game actualGame = gameService.playerMakesMove(game, boardPosition);
+
+        boardGrid[2][2] = 'A';
+        final Board expectedBoard = new BitBoard(boardGrid);
+
+        assertThat(actualGame, allOf(hasProperty(PROP_BOARD, equalTo(expectedBoard)),
+                                     hasProperty(PROP_TURN_COUNT, equalTo(4)),
+                                     hasProperty(PROP_WINNER, equalTo(player1)),
+                                     hasProperty(PROP_GAME_OVER, equalTo(true)))
+        );
+    }
+
     @Test
     public void playerMakesMoveTurnsExceeded() {
         final Player player1 = new Player(HUMAN, 'A');
@@ -291,6 +363,45 @@ public class GameServiceTest {
         assertThat(actualGame, sameInstance(game));
     }
 
+    @Test
+    public void playerMakesMoveInPlace() {
+        final Player player1 = new Player(COMPUTER, 'O');
+        final Player player2 = new Player(COMPUTER, 'X');
+        final GameState gameState = new GameState(3, asList(player1, player2));
+
+        gameService.playerMakesMove(gameState, new BoardPosition(0, 2));
+
+        assertFalse(gameState.isPositionAvailable(0, 2));
+        assertThat(gameState.getActivePlayer(), is(player2));
+        assertThat(gameState.getTurnCount(), is(1));
+    }
+
+    @Test
+    public void playerMakesMoveInPlaceGameOver() {
+        final GameState gameState = new GameState(3, asList(new Player(COMPUTER, 'O'), new Player(COMPUTER, 'X')));
+        gameService.exitGame(gameState);
+
+        gameService.playerMakesMove(gameState, new BoardPosition(0, 2));
+
+        assertTrue(gameState.isEscape());
+        assertTrue(gameState.isPositionAvailable(0, 2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void playerMakesMoveInPlaceOccupied() {
+        final GameState gameState = new GameState(3, asList(new Player(COMPUTER, 'O'), new Player(COMPUTER, 'X')));
+        gameService.playerMakesMove(gameState, new BoardPosition(1, 1));
+
+        gameService.playerMakesMove(gameState, new BoardPosition(1, 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void playerMakesMoveInPlaceInvalid() {
+        final GameState gameState = new GameState(3, asList(new Player(COMPUTER, 'O'), new Player(COMPUTER, 'X')));
+
+        gameService.playerMakesMove(gameState, new BoardPosition(3, 0));
+    }
+
     @After
     public void tearDown() {
         verifyNoMoreInteractions(gameConfiguration, computerPlayerEngine);
@@ -0,0 +1,57 @@
+package tictactoe.simulation;
+
+import org.junit.Test;
+import tictactoe.engine.MinimaxSearch;
+import tictactoe.engine.MonteCarloSearch;
+import tictactoe.model.GameConfiguration;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.GameService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SelfPlaySimulatorTest {
+    private static final Character[] PLAYER_MARKS = {'A', 'B', 'C'};
+
+    @Test
+    public void runPlaysAllGames() {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        enginesByMark.put('A', new ComputerPlayerEngine(new MinimaxSearch(), 100));
+        enginesByMark.put('B', new ComputerPlayerEngine(new MinimaxSearch(), 100));
+        enginesByMark.put('C', new ComputerPlayerEngine(new MonteCarloSearch(200), 100));
+
+        final SimulationResult result = createSimulator(enginesByMark).run(20);
+
+        final int wins = result.getWins('A') + result.getWins('B') + result.getWins('C');
+        assertThat(result.getGameCount(), is(20));
+        assertThat(wins + result.getDraws(), is(20));
+        assertTrue(result.getGamesPerSecond() > 0);
+        assertTrue(result.getPlayoutsPerSecond() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runNoGames() {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        enginesByMark.put('A', new ComputerPlayerEngine());
+
+        createSimulator(enginesByMark).run(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void runMissingEngine() {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        enginesByMark.put('A', new ComputerPlayerEngine(new MinimaxSearch(), 100));
+
+        createSimulator(enginesByMark).run(1);
+    }
+
+    private SelfPlaySimulator createSimulator(final Map<Character, ComputerPlayerEngine> enginesByMark) {
+        final GameConfiguration gameConfiguration = new GameConfiguration(PLAYER_MARKS, 3);
+        final GameService gameService = new GameService(gameConfiguration, new ComputerPlayerEngine());
+        return new SelfPlaySimulator(gameService, enginesByMark);
+    }
+}
@@ -0,0 +1,123 @@
+package tictactoe.simulation;
+
+import org.junit.Test;
+import tictactoe.engine.MonteCarloSearch;
+import tictactoe.engine.SearchEngineFactory;
+import tictactoe.model.EngineConfiguration;
+import tictactoe.model.EngineConfiguration.EngineConfigurationBuilder;
+import tictactoe.model.GameConfiguration;
+import tictactoe.service.ComputerPlayerEngine;
+import tictactoe.service.ComputerPlayerEngine.ComputerPlayerEngineBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class TournamentRunnerTest {
+    private static final Character[] PLAYER_MARKS = {'A', 'B', 'C'};
+    private static final long NO_TIMEOUT = 60_000;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createInvalidThreadCount() {
+        new TournamentRunner(new GameConfiguration(PLAYER_MARKS, 4), TournamentRunnerTest::createEngines, 0);
+    }
+
+    @Test
+    public void runSameSeedSameResults() {
+        final TournamentRunner tournamentRunner = new TournamentRunner(new GameConfiguration(PLAYER_MARKS, 4),
+                                                                       TournamentRunnerTest::createEngines, 3);
+
+        final SimulationResult result = tournamentRunner.run(30, 5);
+        final SimulationResult otherResult = tournamentRunner.run(30, 5);
+
+        assertThat(result.getGameCount(), is(30));
+        assertThat(result.getDraws() + result.getWins('A') + result.getWins('B') + result.getWins('C'), is(30));
+        assertThat(otherResult.getWinsByMark(), is(result.getWinsByMark()));
+        assertThat(otherResult.getDraws(), is(result.getDraws()));
+    }
+
+    @Test
+    public void runResultsIndependentOfThreadCount() {
+        final GameConfiguration gameConfiguration = new GameConfiguration(PLAYER_MARKS, 4);
+
+        final SimulationResult result = new TournamentRunner(gameConfiguration, TournamentRunnerTest::createEngines, 1).run(30, 9);
+        final SimulationResult otherResult = new TournamentRunner(gameConfiguration, TournamentRunnerTest::createEngines, 4).run(30, 9);
+
+        assertThat(otherResult.getWinsByMark(), is(result.getWinsByMark()));
+        assertThat(otherResult.getDraws(), is(result.getDraws()));
+    }
+
+    @Test
+    public void runDeterministicMinimaxIndependentOfThreadCount() {
+        final GameConfiguration gameConfiguration = new GameConfiguration(PLAYER_MARKS, 5, 4, new EngineConfigurationBuilder().build());
+
+        final SimulationResult result = new TournamentRunner(gameConfiguration, TournamentRunnerTest::createDeterministicEngines, 1).run(12, 7);
+        final SimulationResult otherResult = new TournamentRunner(gameConfiguration, TournamentRunnerTest::createDeterministicEngines, 4)
+                .run(12, 7);
+
+        assertThat(otherResult.getWinsByMark(), is(result.getWinsByMark()));
+        assertThat(otherResult.getDraws(), is(result.getDraws()));
+    }
+
+    @Test
+    public void runSeedsEachEngineOncePerGame() {
+        final MonteCarloSearch searchEngine = spy(new MonteCarloSearch(300, 1 << 14, 0));
+        final Map<Character, ComputerPlayerEngine> enginesByMark = createEngines();
+        enginesByMark.put('A', new ComputerPlayerEngine(searchEngine, NO_TIMEOUT));
+
+        new TournamentRunner(new GameConfiguration(PLAYER_MARKS, 3), () -> enginesByMark, 1).run(5, 3);
+
+        verify(searchEngine, times(5)).newGame(anyLong());
+    }
+
+    @Test
+    public void runClosesEngines() {
+        final MonteCarloSearch searchEngine = spy(new MonteCarloSearch(300, 1 << 14, 0));
+        final Map<Character, ComputerPlayerEngine> enginesByMark = createEngines();
+        enginesByMark.put('A', new ComputerPlayerEngine(searchEngine, NO_TIMEOUT));
+
+        new TournamentRunner(new GameConfiguration(PLAYER_MARKS, 3), () -> enginesByMark, 1).run(2, 3);
+
+        verify(searchEngine).close();
+    }
+
+    @Test
+    public void runMoreThreadsThanGames() {
+        final TournamentRunner tournamentRunner = new TournamentRunner(new GameConfiguration(PLAYER_MARKS, 3),
+                                                                       TournamentRunnerTest::createEngines, 8);
+
+        final SimulationResult result = tournamentRunner.run(2, 1);
+
+        assertThat(result.getGameCount(), is(2));
+    }
+
+    private static Map<Character, ComputerPlayerEngine> createEngines() {
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        for (final Character playerMark : PLAYER_MARKS) {
+            enginesByMark.put(playerMark, new ComputerPlayerEngine(new MonteCarloSearch(300, 1 << 14, 0), NO_TIMEOUT));
+        }
+        return enginesByMark;
+    }
+
+    private static Map<Character, ComputerPlayerEngine> createDeterministicEngines() {
+        final EngineConfiguration engineConfiguration = new EngineConfigurationBuilder().searchDepth(3)
+                                                                                        .proofNodeLimit(2_000)
+                                                                                        .deterministic(true)
+                                                                                        .build();
+        final Map<Character, ComputerPlayerEngine> enginesByMark = new LinkedHashMap<>();
+        for (final Character playerMark : PLAYER_MARKS) {
+            enginesByMark.put(playerMark, new ComputerPlayerEngineBuilder(SearchEngineFactory.createSearchEngine(engineConfiguration, 1), NO_TIMEOUT)
+                    .endgameSolver(SearchEngineFactory.createEndgameSolver(engineConfiguration, 1))
+                    .proofNumberSearch(SearchEngineFactory.createProofNumberSearch(engineConfiguration, 1))
+                    .deterministic(true)
+                    .build());
+        }
+        return enginesByMark;
+    }
+}